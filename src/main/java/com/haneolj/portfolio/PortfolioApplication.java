@@ -3,11 +3,20 @@ package com.haneolj.portfolio;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class PortfolioApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(PortfolioApplication.class, args);
+		SpringApplication application = new SpringApplication(PortfolioApplication.class);
+
+		// 정적 사이트 내보내기(--export)는 export 프로필로 실행 (웹 서버, 사전 캐싱, 동기화, 파일 감시 없이)
+		if (Arrays.stream(args).anyMatch(arg -> arg.equals("--export") || arg.startsWith("--export="))) {
+			application.setAdditionalProfiles("export");
+		}
+
+		application.run(args);
 	}
 
 }
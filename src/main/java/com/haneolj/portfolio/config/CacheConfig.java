@@ -1,22 +1,72 @@
 package com.haneolj.portfolio.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 문자열 객체 헤더 등 고정 비용 (바이트)
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    // 이름만 지정해 쓰는 나머지 캐시의 기본 설정 (Caffeine 명세, 통계는 항상 기록)
+    @Value("${cache.default.spec:maximumSize=1000,expireAfterWrite=1h}")
+    private String defaultCacheSpec;
+
+    // 마크다운 원문 캐시 최대 크기 (바이트)
+    @Value("${cache.markdown-source.max-bytes:67108864}")
+    private long markdownSourceMaxBytes;
+
+    // 렌더링된 HTML 캐시 최대 크기 (바이트)
+    @Value("${cache.markdown-render.max-bytes:16777216}")
+    private long markdownRenderMaxBytes;
+
+    // 노트 주변 그래프 캐시 최대 항목 수 (키에 그래프 버전이 포함되므로 이전 버전 결과는 자연히 밀려남)
+    @Value("${cache.graph-neighbors.max-entries:1000}")
+    private long graphNeighborMaxEntries;
+
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "markdownHtmlCache", "studyStructureCache", "fileContentCache", "graphDataCache");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000));
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(defaultCacheSpec).recordStats());
+
+        // 항목 크기가 제각각이므로 개수가 아니라 바이트 크기 기준으로 제거
+        cacheManager.registerCustomCache("markdownSourceCache", byteWeightedCache(markdownSourceMaxBytes));
+        cacheManager.registerCustomCache("markdownRenderCache", byteWeightedCache(markdownRenderMaxBytes));
+        cacheManager.registerCustomCache("graphNeighborCache", Caffeine.newBuilder()
+                .maximumSize(graphNeighborMaxEntries)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build());
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private Cache<Object, Object> byteWeightedCache(long maxBytes) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(CacheConfig::estimateBytes)
+                .recordStats()
+                .build();
+    }
+
+    // 캐시 항목의 대략적인 메모리 크기 (UTF-16 기준)
+    private static int estimateBytes(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        if (key instanceof CharSequence text) {
+            bytes += text.length() * 2L;
+        }
+        if (value instanceof CharSequence text) {
+            bytes += text.length() * 2L;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
@@ -1,19 +1,32 @@
 package com.haneolj.portfolio.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.ContentTypeOptionsConfig;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter.HeaderValue;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // 내부 상태 API 접근 토큰 (비어 있으면 상태 API 는 모두 거부)
+    @Value("${app.status-token:}")
+    private String statusToken;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -25,8 +38,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/favicon.ico").permitAll()
                         .requestMatchers("/", "/study/view/**", "/refresh", "/about/**").permitAll()
+                        // 동기화 상태, 캐시 통계, 웹훅 작업 등 내부 상태는 토큰이 있어야 조회 가능
+                        .requestMatchers("/api/status/**", "/api/webhook/jobs/**").access(this::checkStatusToken)
                         .requestMatchers("/api/webhook/**").permitAll()
-                        .requestMatchers("/api/study/graph").permitAll()
+                        .requestMatchers("/api/study/graph", "/api/study/graph/**").permitAll()
+                        .requestMatchers("/api/study/search").permitAll()
                         .anyRequest().authenticated()
                 )
                 // HTTP 기본 인증 비활성화
@@ -57,4 +73,17 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // Authorization: Bearer <토큰> 이 설정한 토큰과 같을 때만 허용
+    private AuthorizationDecision checkStatusToken(Supplier<Authentication> authentication,
+            RequestAuthorizationContext context) {
+        if (statusToken == null || statusToken.isBlank()) {
+            return new AuthorizationDecision(false);
+        }
+
+        String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+        byte[] expected = ("Bearer " + statusToken).getBytes(StandardCharsets.UTF_8);
+        boolean granted = header != null && MessageDigest.isEqual(header.getBytes(StandardCharsets.UTF_8), expected);
+        return new AuthorizationDecision(granted);
+    }
 }
\ No newline at end of file
@@ -1,13 +1,23 @@
 package com.haneolj.portfolio.controller;
 
+import com.haneolj.portfolio.dto.GraphChangesDto;
 import com.haneolj.portfolio.dto.GraphDataDto;
+import com.haneolj.portfolio.dto.GraphFormat;
+import com.haneolj.portfolio.dto.GraphPayloadDto;
 import com.haneolj.portfolio.service.GraphService;
+import com.haneolj.portfolio.service.NoteIndexService;
+import com.haneolj.portfolio.service.StudyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -15,20 +25,113 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class GraphController {
     private final GraphService graphService;
+    private final StudyService studyService;
+    private final NoteIndexService noteIndexService;
 
+    // 그래프 버전별로 미리 직렬화한 본문 반환
+    // 형식은 format 파라미터(json, columnar, binary) 또는 Accept 헤더로 선택 (기본 json)
+    // ETag/Last-Modified 가 같으면 304, gzip 을 받는 클라이언트에는 압축된 본문 그대로 전송
     @GetMapping("/graph")
-    public ResponseEntity<GraphDataDto> getGraphData() {
+    public ResponseEntity<byte[]> getGraphData(@RequestParam(value = "format", required = false) String formatName,
+            WebRequest request) {
         try {
-            GraphDataDto graphData = graphService.getGraphData();
+            // 그래프는 스터디 구조를 구성할 때 채워지므로 먼저 로드
+            studyService.getStudyStructure();
 
-            if (graphData == null || graphData.getNodes().isEmpty()) {
+            GraphFormat format = resolveFormat(formatName, request.getHeader(HttpHeaders.ACCEPT));
+            if (format == null) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            GraphPayloadDto payload = graphService.getGraphPayload(format);
+            if (payload.getNodeCount() == 0) {
                 return ResponseEntity.noContent().build();
             }
 
-            return ResponseEntity.ok(graphData);
+            // 형식과 압축 여부에 따라 본문이 다르므로 ETag 도 구분
+            boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            String etag = "\"" + payload.getEtag() + (gzip ? "-gzip" : "") + "\"";
+            long lastModified = payload.getLastModified().toEpochMilli();
+
+            if (request.checkNotModified(etag, lastModified)) {
+                // 304 응답은 checkNotModified 에서 설정됨
+                return null;
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(format.getMediaType()))
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzipBytes());
+            }
+            return response.body(payload.getBytes());
         } catch (Exception e) {
             log.error("그래프 데이터 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
-}
\ No newline at end of file
+
+    // 노트 주변 그래프 (note 는 /study/view 와 같은 노트 페이지 식별자)
+    @GetMapping("/graph/neighbors")
+    public ResponseEntity<GraphDataDto> getNeighbors(@RequestParam("note") String pageId,
+            @RequestParam(value = "depth", defaultValue = "1") int depth,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        try {
+            studyService.getStudyStructure();
+
+            String path = noteIndexService.findByPageId(pageId).orElse(null);
+            GraphDataDto neighbors = path != null ? graphService.getNeighbors(path, depth, limit) : null;
+            if (neighbors == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(neighbors);
+        } catch (Exception e) {
+            log.error("주변 그래프 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // since 버전 이후의 그래프 변경 목록 (reset 이 true 면 전체 그래프를 다시 받아야 함)
+    @GetMapping("/graph/changes")
+    public ResponseEntity<GraphChangesDto> getGraphChanges(@RequestParam("since") long since) {
+        try {
+            studyService.getStudyStructure();
+            return ResponseEntity.ok(graphService.getChanges(since));
+        } catch (Exception e) {
+            log.error("그래프 변경 목록 조회 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // format 파라미터가 우선, 없으면 Accept 헤더, 둘 다 없으면 JSON (알 수 없는 format 은 null)
+    private GraphFormat resolveFormat(String formatName, String accept) {
+        if (formatName != null) {
+            return GraphFormat.fromName(formatName);
+        }
+
+        GraphFormat format = GraphFormat.fromAccept(accept);
+        return format != null ? format : GraphFormat.JSON;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" 은 거부 의미
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,8 @@
 package com.haneolj.portfolio.controller;
 
-import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
 import com.haneolj.portfolio.service.StudyService;
+import com.haneolj.portfolio.service.TemplateRenderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
@@ -14,14 +15,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequiredArgsConstructor
 public class HomeController {
     private final StudyService studyService;
+    private final TemplateRenderService templateRenderService;
 
     @Value("${app.version}")
     private String appVersion;
 
     @GetMapping("/")
     public String home(Model model) {
-        CategoryNodeDto studyRoot = studyService.getStudyStructure();
-        model.addAttribute("studyRoot", studyRoot);
+        StudySnapshotDto snapshot = studyService.getStudySnapshot();
+        model.addAttribute("studyRoot", snapshot != null ? snapshot.getRoot() : null);
+        model.addAttribute("categoryTreeHtml", templateRenderService.getCategoryTreeHtml(snapshot));
         model.addAttribute("updateDate", studyService.getLastUpdateDate());
         model.addAttribute("version", appVersion);
         return "home/index";
@@ -1,20 +1,32 @@
 package com.haneolj.portfolio.controller;
 
+import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import com.haneolj.portfolio.service.GraphService;
 import com.haneolj.portfolio.service.MarkdownService;
+import com.haneolj.portfolio.service.NoteIndexService;
 import com.haneolj.portfolio.service.StudyService;
+import com.haneolj.portfolio.service.TemplateRenderService;
 import com.haneolj.portfolio.util.StringUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.Optional;
 
 @Slf4j
 @Controller
@@ -27,19 +39,54 @@ public class MarkdownController {
 
     private final MarkdownService markdownService;
     private final StudyService studyService;
+    private final GraphService graphService;
+    private final TemplateRenderService templateRenderService;
+    private final NoteIndexService noteIndexService;
     private final StringUtils stringUtils;
 
-    @GetMapping("/view/{encodedPath}")
-    public String viewMarkdown(@PathVariable String encodedPath, Model model) {
+    // 노트 내용, 스터디 트리 버전, 앱 버전이 모두 같으면 마크다운/템플릿 처리 없이 304 응답
+    // (트리 버전은 사이드바와 백링크, 앱 버전은 템플릿/렌더러 변경을 반영)
+    @GetMapping("/view/{pageId}")
+    public String viewMarkdown(@PathVariable String pageId, Model model, WebRequest request,
+            HttpServletResponse response) {
 
         model.addAttribute("version", appVersion);
 
         try {
-            // Base64로 인코딩된 경로를 디코딩
-            String decodedPath = stringUtils.decodeBase64Url(encodedPath);
-            log.info("디코딩된 파일 경로: {}", decodedPath);
-
-            return renderMarkdownFile(decodedPath, model);
+            // 노트 색인이 준비된 뒤 페이지 식별자로 파일 경로 조회
+            StudySnapshotDto snapshot = studyService.getStudySnapshot();
+            Optional<String> filePath = noteIndexService.findByPageId(pageId);
+            if (filePath.isEmpty()) {
+                // 이전 형식(Base64 로 인코딩한 전체 경로) 링크는 새 주소로 이동
+                String legacyPageId = toLegacyPageId(pageId);
+                if (legacyPageId != null) {
+                    return "redirect:/study/view/" + legacyPageId;
+                }
+
+                log.warn("노트를 찾을 수 없습니다: {}", pageId);
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                model.addAttribute("error", "노트를 찾을 수 없습니다.");
+                return "error/generic";
+            }
+
+            String decodedPath = filePath.get();
+            log.info("요청한 파일 경로: {}", decodedPath);
+
+            String contentId = studyService.getContentId(decodedPath);
+            if (snapshot != null && contentId != null) {
+                String etag = "\"" + contentId + "-" + snapshot.getVersion() + "-" + appVersion + "\"";
+                long lastModified = snapshot.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+                if (request.checkNotModified(etag, lastModified)) {
+                    // 304 응답은 checkNotModified 에서 설정됨
+                    return null;
+                }
+
+                // 보안 기본값(no-store) 대신 매번 재검증하도록 설정
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            }
+
+            return renderMarkdownFile(decodedPath, snapshot, model);
         } catch (Exception e) {
             log.error("마크다운 처리 중 오류 발생: {}", e.getMessage(), e);
             model.addAttribute("error", "오류가 발생했습니다: " + e.getMessage());
@@ -47,8 +94,20 @@ public class MarkdownController {
         }
     }
 
-    private String renderMarkdownFile(String filePath, Model model) throws IOException {
+    // 이전 형식 주소가 가리키는 노트의 페이지 식별자 (해당 노트가 없으면 null)
+    private String toLegacyPageId(String encodedPath) {
+        try {
+            String pageId = stringUtils.toPageId(stringUtils.decodeBase64Url(encodedPath));
+            return noteIndexService.findByPageId(pageId).isPresent() ? pageId : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // snapshot 은 링크 해석에 쓰이는 노트 색인이 준비된 스터디 트리 (구성 실패 시 null)
+    private String renderMarkdownFile(String filePath, StudySnapshotDto snapshot, Model model) throws IOException {
         Path path = Paths.get(filePath);
+        CategoryNodeDto studyRoot = snapshot != null ? snapshot.getRoot() : null;
 
         // 파일 확장자 제거하여 제목으로 사용
         String title = path.getFileName().toString();
@@ -63,14 +122,17 @@ public class MarkdownController {
         String markdownContent = markdownService.readMarkdownFile(path);
 
         // HTML로 변환
-        String htmlContent = markdownService.convertToHtml(markdownContent);
+        String htmlContent = markdownService.convertToHtml(markdownService.contentId(path, markdownContent),
+                markdownContent);
 
         // 모델에 데이터 추가
         model.addAttribute("contentTitle", title);
         model.addAttribute("contentBody", htmlContent);
         model.addAttribute("contentLastModified", markdownService.getLastModifiedDate(path));
         model.addAttribute("contentCreatedAt", markdownService.getFileCreationDate(path));
-        model.addAttribute("studyRoot", studyService.getStudyStructure());
+        model.addAttribute("studyRoot", studyRoot);
+        model.addAttribute("categoryTreeHtml", templateRenderService.getCategoryTreeHtml(snapshot));
+        model.addAttribute("backlinks", graphService.getBacklinks(filePath));
         model.addAttribute("currentFilePath", filePath);
 
         log.info("모델 속성 - contentTitle: {}", title);
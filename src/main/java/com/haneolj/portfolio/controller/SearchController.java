@@ -0,0 +1,36 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.dto.SearchResultsDto;
+import com.haneolj.portfolio.service.SearchService;
+import com.haneolj.portfolio.service.StudyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/study")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+    private final StudyService studyService;
+
+    // 노트 전문 검색 (제목, 헤더, 본문)
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultsDto> search(@RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            // 검색 색인은 스터디 구조를 구성할 때 채워지므로 먼저 로드
+            studyService.getStudyStructure();
+
+            return ResponseEntity.ok(searchService.search(query, limit));
+        } catch (Exception e) {
+            log.error("검색 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.dto.CacheStatsDto;
+import com.haneolj.portfolio.dto.PrecacheProgressDto;
+import com.haneolj.portfolio.dto.RenderStoreStatsDto;
+import com.haneolj.portfolio.dto.RepositorySyncStatusDto;
+import com.haneolj.portfolio.dto.WebhookQueueStatusDto;
+import com.haneolj.portfolio.service.CacheStatsService;
+import com.haneolj.portfolio.service.MarkdownPrecacheService;
+import com.haneolj.portfolio.service.RenderStoreService;
+import com.haneolj.portfolio.service.RepositoryStateService;
+import com.haneolj.portfolio.service.WebhookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/status")
+@RequiredArgsConstructor
+public class StatusController {
+    private final RepositoryStateService repositoryStateService;
+    private final MarkdownPrecacheService markdownPrecacheService;
+    private final CacheStatsService cacheStatsService;
+    private final RenderStoreService renderStoreService;
+    private final WebhookService webhookService;
+
+    // 저장소 동기화 상태 (HEAD, 동기화 소요 시간 등)
+    @GetMapping("/sync")
+    public ResponseEntity<RepositorySyncStatusDto> getSyncStatus() {
+        return ResponseEntity.ok(repositoryStateService.getSyncStatus());
+    }
+
+    // 마크다운 사전 캐싱 진행 상태 (완료/실패/전체, 처리 속도)
+    @GetMapping("/precache")
+    public ResponseEntity<PrecacheProgressDto> getPrecacheProgress() {
+        return ResponseEntity.ok(markdownPrecacheService.getProgress());
+    }
+
+    // 캐시별 적중/실패/제거 통계
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+
+    // 디스크 렌더 저장소 사용량과 적중률
+    @GetMapping("/render-store")
+    public ResponseEntity<RenderStoreStatsDto> getRenderStoreStats() {
+        return ResponseEntity.ok(renderStoreService.getStats());
+    }
+
+    // 웹훅 동기화 대기열 상태와 최근 작업
+    @GetMapping("/webhook")
+    public ResponseEntity<WebhookQueueStatusDto> getWebhookQueueStatus() {
+        return ResponseEntity.ok(webhookService.getQueueStatus());
+    }
+}
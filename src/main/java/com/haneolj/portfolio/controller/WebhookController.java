@@ -2,16 +2,15 @@ package com.haneolj.portfolio.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.haneolj.portfolio.service.StudyService;
+import com.haneolj.portfolio.dto.WebhookJobDto;
 import com.haneolj.portfolio.service.WebhookService;
-import java.util.ArrayList;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -24,7 +23,6 @@ import java.nio.charset.StandardCharsets;
 public class WebhookController {
 
     private final WebhookService webhookService;
-    private final StudyService studyService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${github.webhook.secret:}")
@@ -63,21 +61,26 @@ public class WebhookController {
             return ResponseEntity.ok("Branch ignored");
         }
 
-        // 변경된 파일 목록 추출
-        List<String> changedFiles = webhookService.extractChangedFilesFromPayload(payload);
-        log.info("변경된 파일 목록: {}", changedFiles);
+        // 동기화는 백그라운드 대기열에서 처리하고 바로 응답 (GitHub 타임아웃 방지)
+        // 변경 파일은 페이로드 목록(대규모 푸시에서 잘림) 대신 pull 전후 커밋 비교로 구함
+        WebhookJobDto job = webhookService.enqueue();
 
-        // 스터디 구조 새로고침
-        if (!changedFiles.isEmpty()) {
-            // 변경된 파일이 있다면 선택적 처리
-            webhookService.processChangedFiles(changedFiles);
-        } else {
-            // 변경된 파일 정보가 없는 경우 전체 새로고침 (기존 방식)
-            log.info("변경된 파일 정보 없음, 전체 새로고침 시작");
-            studyService.refreshStudyStructure();
-        }
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/webhook/jobs/{id}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body("Accepted (job " + job.getId() + ")");
+    }
 
-        return ResponseEntity.ok("Successfully processed");
+    // 웹훅 작업 처리 상태
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<WebhookJobDto> getJob(@PathVariable long id) {
+        WebhookJobDto job = webhookService.getJob(id);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
     }
 
     // GitHub 웹훅 시그니처 검증
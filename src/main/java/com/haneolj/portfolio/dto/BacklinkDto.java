@@ -0,0 +1,14 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 현재 노트를 링크한 노트
+@Getter
+@AllArgsConstructor
+public class BacklinkDto {
+    private final String name;
+    private final String pageId;
+    // 링크가 있는 줄의 앞뒤 문맥
+    private final String snippet;
+}
@@ -0,0 +1,18 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStatsDto {
+    private final String name;
+    private final long entryCount;
+    private final long weightedSize;
+    private final long maximumWeight;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+    private final long evictionWeight;
+}
@@ -2,32 +2,42 @@ package com.haneolj.portfolio.dto;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
 
+// 스터디 트리 노드 (불변)
+// 변경 시 바뀐 노드와 그 상위 노드만 새로 만들고 나머지 하위 트리는 공유
 @Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class CategoryNodeDto {
     private final String name;
     private final String path;
     private final boolean directory;
-    private final List<CategoryNodeDto> children = new ArrayList<>();
-    @Setter
-    private List<String> links = new ArrayList<>();
-    @Setter
-    private LocalDateTime createdAt;
-    @Setter
-    private LocalDateTime lastModified;
+    private final List<CategoryNodeDto> children;
+    private final List<String> links;
+    // <링크, 링크가 처음 나온 줄의 문맥> (백링크 표시용)
+    private final Map<String, String> linkSnippets;
+    // 파일 내용 식별자 (Git blob ID, 디렉토리 또는 읽지 못한 파일은 null)
+    private final String contentId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime lastModified;
 
-    public CategoryNodeDto(String name, String path, boolean directory) {
-        this.name = name;
-        this.path = path;
-        this.directory = directory;
+    public static CategoryNodeDto directory(String name, String path, List<CategoryNodeDto> children) {
+        return new CategoryNodeDto(name, path, true, List.copyOf(children), List.of(), Map.of(), null, null, null);
     }
 
-    public void addChild(CategoryNodeDto child) {
-        children.add(child);
+    public static CategoryNodeDto file(String name, String path, List<String> links, Map<String, String> linkSnippets,
+            String contentId, LocalDateTime createdAt, LocalDateTime lastModified) {
+        return new CategoryNodeDto(name, path, false, List.of(), List.copyOf(links), Map.copyOf(linkSnippets),
+                contentId, createdAt, lastModified);
+    }
+
+    // 자식 목록만 바꾼 디렉토리 노드
+    public CategoryNodeDto withChildren(List<CategoryNodeDto> children) {
+        return directory(name, path, children);
     }
 
     public String getLastModifiedFormatted() {
@@ -0,0 +1,25 @@
+package com.haneolj.portfolio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 그래프 변경 한 건
+// 노드 변경은 id/name/pageId, 링크 변경은 source/target 사용 (링크는 방향 없이 노드 쌍 단위)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GraphChangeDto {
+    public static final String NODE_ADDED = "NODE_ADDED";
+    public static final String NODE_REMOVED = "NODE_REMOVED";
+    public static final String LINK_ADDED = "LINK_ADDED";
+    public static final String LINK_REMOVED = "LINK_REMOVED";
+
+    private final long version;
+    private final String type;
+    private final String id;
+    private final String name;
+    private final String pageId;
+    private final String source;
+    private final String target;
+}
@@ -0,0 +1,15 @@
+package com.haneolj.portfolio.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GraphChangesDto {
+    // 현재 그래프 버전
+    private final long version;
+    // 요청한 버전 이후의 변경 기록이 남아 있지 않아 전체 그래프를 다시 받아야 하는지 여부
+    private final boolean reset;
+    private final List<GraphChangeDto> changes;
+}
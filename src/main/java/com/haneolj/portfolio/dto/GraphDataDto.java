@@ -12,6 +12,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class GraphDataDto {
+    private long version;
     private List<GraphNodeDto> nodes = new ArrayList<>();
     private List<GraphLinkDto> links = new ArrayList<>();
 }
@@ -0,0 +1,49 @@
+package com.haneolj.portfolio.dto;
+
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// /api/study/graph 응답 형식
+@Getter
+@AllArgsConstructor
+public enum GraphFormat {
+    // 노드/링크 객체 목록 (GraphDataDto)
+    JSON("json", "application/json"),
+    // 열 단위 배열 (ids[], names[], slugs[], source[], target[])
+    COLUMNAR("columnar", "application/vnd.haneolj.graph.columnar+json"),
+    // 열 단위 배열의 바이너리 인코딩
+    BINARY("binary", "application/vnd.haneolj.graph.binary");
+
+    private final String parameter;
+    private final String mediaType;
+
+    // format 파라미터 값으로 조회 (없으면 null)
+    public static GraphFormat fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (GraphFormat format : values()) {
+            if (format.parameter.equals(normalized)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    // Accept 헤더로 조회 (명시적으로 요청한 형식만, 없으면 null)
+    public static GraphFormat fromAccept(String accept) {
+        if (accept == null) {
+            return null;
+        }
+
+        for (GraphFormat format : values()) {
+            if (format != JSON && accept.contains(format.mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.haneolj.portfolio.dto;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 그래프 버전 하나를 미리 직렬화한 응답 본문
+@Getter
+@AllArgsConstructor
+public class GraphPayloadDto {
+    private final long version;
+    private final int nodeCount;
+    private final byte[] bytes;
+    private final byte[] gzipBytes;
+    // 본문 SHA-256 기반 (따옴표 제외, gzip 본문은 "-gzip" 을 붙여 사용)
+    private final String etag;
+    private final Instant lastModified;
+}
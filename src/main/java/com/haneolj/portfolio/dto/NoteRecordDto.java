@@ -0,0 +1,24 @@
+package com.haneolj.portfolio.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 노트 파일을 한 번 읽어 만든 분석 결과 (트리, 그래프, 검색, 렌더링이 함께 사용)
+@Getter
+@AllArgsConstructor
+public class NoteRecordDto {
+    private final String path;
+    private final String content;
+    // git blob ID (렌더링 캐시 키와 동일)
+    private final String contentId;
+    // 표시용 제목 (번호, 확장자 제거)
+    private final String title;
+    // 본문에 나온 순서대로의 링크 대상
+    private final List<String> links;
+    // <링크, 링크가 처음 나온 줄의 문맥>
+    private final Map<String, String> linkSnippets;
+    private final List<String> headings;
+    private final int wordCount;
+}
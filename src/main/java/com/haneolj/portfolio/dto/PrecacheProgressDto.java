@@ -0,0 +1,16 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PrecacheProgressDto {
+    private final long generation;
+    private final String state;
+    private final int total;
+    private final int done;
+    private final int failed;
+    private final long elapsedMillis;
+    private final double filesPerSecond;
+}
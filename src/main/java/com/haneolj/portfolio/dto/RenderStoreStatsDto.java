@@ -0,0 +1,16 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RenderStoreStatsDto {
+    private final boolean available;
+    private final int entryCount;
+    private final long usedBytes;
+    private final long capacityBytes;
+    private final long hitCount;
+    private final long missCount;
+    private final long resetCount;
+}
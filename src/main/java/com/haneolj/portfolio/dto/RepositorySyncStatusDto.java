@@ -0,0 +1,19 @@
+package com.haneolj.portfolio.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RepositorySyncStatusDto {
+    private final String headCommit;
+    private final String previousHeadCommit;
+    private final String lastSyncTrigger;
+    private final LocalDateTime lastSyncAt;
+    private final long lastSyncDurationMillis;
+    private final long averageSyncDurationMillis;
+    private final long syncCount;
+    private final long failureCount;
+    private final String lastError;
+}
@@ -0,0 +1,14 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResultDto {
+    private final String name;
+    private final String pageId;
+    private final double score;
+    // HTML 이스케이프된 본문 일부, 일치하는 부분은 <mark> 로 감쌈
+    private final String snippet;
+}
@@ -0,0 +1,15 @@
+package com.haneolj.portfolio.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResultsDto {
+    private final String query;
+    // 검색어가 하나라도 포함된 문서 수
+    private final int total;
+    private final long tookMillis;
+    private final List<SearchResultDto> results;
+}
@@ -0,0 +1,21 @@
+package com.haneolj.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 정적 사이트 내보내기 결과 (페이지, 그래프, 정적 파일 단위)
+@Getter
+@AllArgsConstructor
+public class StaticExportResultDto {
+    private final String targetDirectory;
+    private final long treeVersion;
+    private final int totalCount;
+    // 새로 쓰거나 다시 쓴 파일 수
+    private final int writtenCount;
+    // 이전 내보내기와 해시가 같아 건너뛴 파일 수
+    private final int skippedCount;
+    // 더 이상 없는 노트라 삭제한 파일 수
+    private final int removedCount;
+    private final int failedCount;
+    private final long elapsedMillis;
+}
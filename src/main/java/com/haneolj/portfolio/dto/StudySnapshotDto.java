@@ -0,0 +1,14 @@
+package com.haneolj.portfolio.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 한 시점의 스터디 트리 (버전이 같으면 내용도 같음)
+@Getter
+@AllArgsConstructor
+public class StudySnapshotDto {
+    private final long version;
+    private final CategoryNodeDto root;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.haneolj.portfolio.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WebhookJobDto {
+    private final long id;
+    // QUEUED, RUNNING, DONE, FAILED
+    private final String state;
+    // pull 전후 커밋의 트리 차이에서 반영한 마크다운 경로 수 (처리 후에 채워짐, 전체 재구성이면 0)
+    private final int changedFileCount;
+    // 이전 HEAD 가 없거나 이전 커밋을 읽을 수 없어 트리 차이 대신 전체 재구성했는지
+    private final boolean fullRefresh;
+    // 함께 처리된 배치 번호 (대기 중이면 0)
+    private final long batchId;
+    private final LocalDateTime receivedAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+}
@@ -0,0 +1,18 @@
+package com.haneolj.portfolio.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class WebhookQueueStatusDto {
+    private final long debounceMillis;
+    private final int pendingEvents;
+    private final long batchCount;
+    // 다른 이벤트와 합쳐져 별도 동기화 없이 처리된 이벤트 수
+    private final long coalescedEventCount;
+    private final long lastBatchDurationMillis;
+    // 최근 작업 (최신 순)
+    private final List<WebhookJobDto> recentJobs;
+}
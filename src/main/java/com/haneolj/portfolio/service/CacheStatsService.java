@@ -0,0 +1,46 @@
+package com.haneolj.portfolio.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.haneolj.portfolio.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+
+    // 캐시별 적중/실패/제거 통계
+    public List<CacheStatsDto> getCacheStats() {
+        List<CacheStatsDto> result = new ArrayList<>();
+
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(cacheName) instanceof CaffeineCache caffeineCache) {
+                result.add(toDto(cacheName, caffeineCache.getNativeCache()));
+            }
+        }
+
+        return result;
+    }
+
+    private CacheStatsDto toDto(String name, Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+
+        long weightedSize = eviction.map(e -> e.weightedSize().orElse(-1L)).orElse(-1L);
+        long maximum = eviction.map(Policy.Eviction::getMaximum).orElse(-1L);
+
+        return new CacheStatsDto(name, cache.estimatedSize(), weightedSize, maximum,
+                stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.evictionWeight());
+    }
+}
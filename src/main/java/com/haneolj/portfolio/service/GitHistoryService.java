@@ -0,0 +1,284 @@
+package com.haneolj.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GitHistoryService {
+
+    private final GitService gitService;
+    private final RepositoryStateService repositoryStateService;
+
+    @Value("${obsidian.repo.study-path}")
+    private String studyPath;
+
+    // <저장소 기준 상대 경로, 최초 커밋 시간(epoch 초)>
+    private volatile Map<String, Integer> creationTimes = new ConcurrentHashMap<>();
+
+    // <저장소 기준 상대 경로, 마지막 변경 커밋 시간(epoch 초)>
+    private volatile Map<String, Integer> modificationTimes = new ConcurrentHashMap<>();
+
+    // 생성 시간 색인에 반영된 마지막 커밋
+    private volatile String indexedCommit;
+
+    // 이력 한 번 훑은 결과 <상대 경로, 최초/마지막 커밋 시간>
+    private record HistoryTimes(Map<String, Integer> created, Map<String, Integer> modified) {
+    }
+
+    // 두 커밋 사이에서 바뀐 스터디 경로 하나 (경로는 로컬 저장소 기준 절대 경로, 없는 쪽은 null)
+    public record PathChange(DiffEntry.ChangeType type, Path oldPath, Path newPath) {
+    }
+
+    // 파일 생성 시간 가져오기
+    // 전체 이력을 한 번에 훑어 만든 색인에서 조회
+    public LocalDateTime getFileCreationDate(Path filePath) {
+        return getFileCreationDate(filePath, null);
+    }
+
+    // 이미 읽은 파일 생성 시간이 있으면 Git 이력이 없을 때 파일 시간을 다시 읽지 않고 사용
+    public LocalDateTime getFileCreationDate(Path filePath, Instant fallbackCreatedAt) {
+        try {
+            ensureCreationIndex();
+
+            // 저장소 루트로부터의 상대 경로 가져오기
+            String relativePath = Paths.get(repositoryStateService.getLocalPath())
+                    .relativize(filePath).toString().replace('\\', '/');
+
+            Integer commitTime = creationTimes.get(relativePath);
+            if (commitTime != null) {
+                // 커밋 시간을 LocalDateTime으로 변환
+                return LocalDateTime.ofInstant(Instant.ofEpochSecond(commitTime), ZoneId.systemDefault());
+            }
+
+            // Git 이력이 없는 경우 파일 생성 시간으로 대체
+            if (fallbackCreatedAt != null) {
+                return LocalDateTime.ofInstant(fallbackCreatedAt, ZoneId.systemDefault());
+            }
+            return LocalDateTime.ofInstant(
+                    (Files.getAttribute(filePath, "creationTime") != null)
+                            ? ((FileTime) Files.getAttribute(filePath, "creationTime")).toInstant()
+                            : Files.getLastModifiedTime(filePath).toInstant(),
+                    ZoneId.systemDefault());
+        } catch (Exception e) {
+            log.warn("파일 생성 시간을 가져올 수 없습니다: {}", e.getMessage());
+            // 대안으로 마지막 수정 시간 반환
+            try {
+                return LocalDateTime.ofInstant(
+                        Files.getLastModifiedTime(filePath).toInstant(),
+                        ZoneId.systemDefault());
+            } catch (IOException ex) {
+                log.error("파일 시간 정보를 가져올 수 없습니다: {}", ex.getMessage());
+                return LocalDateTime.now(); // 그것도 안되면 현재 시간 뿌리기
+            }
+        }
+    }
+
+    // 파일을 마지막으로 변경한 커밋 시간 (이력에 없으면 null)
+    public Instant getLastCommitTime(Path filePath) {
+        refreshIndex();
+
+        String relativePath = Paths.get(repositoryStateService.getLocalPath())
+                .relativize(filePath).toString().replace('\\', '/');
+        Integer commitTime = modificationTimes.get(relativePath);
+        return commitTime != null ? Instant.ofEpochSecond(commitTime) : null;
+    }
+
+    // 현재 HEAD 까지 이력 색인 갱신
+    // 다른 잠금을 잡기 전에 미리 호출해 두면 이후 시간 조회는 이력을 훑지 않고 바로 끝남
+    public void refreshIndex() {
+        try {
+            ensureCreationIndex();
+        } catch (IOException e) {
+            log.warn("커밋 이력 색인을 갱신할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    // 현재 HEAD 까지 생성 시간 색인 갱신
+    // 이미 색인한 커밋 이후의 새 커밋만 훑음
+    private void ensureCreationIndex() throws IOException {
+        String headCommit = repositoryStateService.getHeadCommit();
+        if (headCommit == null || headCommit.equals(indexedCommit)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (headCommit.equals(indexedCommit)) {
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            ObjectId head = ObjectId.fromString(headCommit);
+            ObjectId since = indexedCommit != null ? ObjectId.fromString(indexedCommit) : null;
+
+            HistoryTimes found = null;
+            if (since != null) {
+                try {
+                    found = gitService.withReader((repository, reader) -> walkHistory(repository, reader, head, since));
+                    if (found == null) {
+                        // 강제 푸시로 이력이 바뀐 경우 (이전 커밋은 남아 있어도 버려진 이력의 시간이 섞이면 안 됨)
+                        log.warn("이전 색인 커밋이 새 HEAD 의 조상이 아니어서 전체 이력을 다시 색인합니다: {}",
+                                indexedCommit);
+                    }
+                } catch (MissingObjectException e) {
+                    // 이전 커밋이 객체 DB 에서 사라진 경우
+                    log.warn("이전 색인 커밋을 찾을 수 없어 전체 이력을 다시 색인합니다: {}", indexedCommit);
+                }
+            }
+
+            boolean incremental = found != null;
+            if (!incremental) {
+                found = gitService.withReader((repository, reader) -> walkHistory(repository, reader, head, null));
+            }
+
+            if (incremental) {
+                found.created().forEach((path, time) -> creationTimes.merge(path, time, Math::min));
+                found.modified().forEach((path, time) -> modificationTimes.merge(path, time, Math::max));
+            } else {
+                creationTimes = new ConcurrentHashMap<>(found.created());
+                modificationTimes = new ConcurrentHashMap<>(found.modified());
+            }
+            indexedCommit = headCommit;
+
+            log.info("생성 시간 색인 갱신 완료 ({}): 파일 {} 개, {} ms",
+                    incremental ? "증분" : "전체", found.created().size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // 커밋 그래프를 한 번만 훑으면서 경로별 가장 오래된/최근 커밋 시간 수집
+    // since 가 주어지면 since 이후의 커밋만 훑고, since 가 head 의 조상이 아니면 null 반환
+    private HistoryTimes walkHistory(Repository repository, ObjectReader reader,
+            ObjectId head, ObjectId since) throws IOException {
+        Map<String, Integer> found = new HashMap<>();
+        Map<String, Integer> modified = new HashMap<>();
+
+        // 빌린 reader 를 공유하므로 walk 를 닫아도 reader 는 닫히지 않음
+        try (RevWalk revWalk = new RevWalk(reader);
+             TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+            RevCommit headCommit = revWalk.parseCommit(head);
+            if (since != null) {
+                RevCommit sinceCommit = revWalk.parseCommit(since);
+                if (!revWalk.isMergedInto(sinceCommit, headCommit)) {
+                    return null;
+                }
+                revWalk.reset();
+                revWalk.markUninteresting(sinceCommit);
+            }
+            revWalk.markStart(headCommit);
+
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(createStudyDiffFilter());
+
+            for (RevCommit commit : revWalk) {
+                treeWalk.reset();
+
+                // 첫 번째 부모와 비교 (루트 커밋은 빈 트리와 비교)
+                if (commit.getParentCount() > 0) {
+                    RevCommit parent = commit.getParent(0);
+                    revWalk.parseHeaders(parent);
+                    treeWalk.addTree(parent.getTree());
+                } else {
+                    treeWalk.addTree(new EmptyTreeIterator());
+                }
+                treeWalk.addTree(commit.getTree());
+
+                int commitTime = commit.getCommitTime();
+                while (treeWalk.next()) {
+                    // 이 커밋에서 삭제된 파일은 건너뛰기
+                    if (treeWalk.getRawMode(1) == 0) {
+                        continue;
+                    }
+                    found.merge(treeWalk.getPathString(), commitTime, Math::min);
+                    modified.merge(treeWalk.getPathString(), commitTime, Math::max);
+                }
+            }
+        }
+
+        return new HistoryTimes(found, modified);
+    }
+
+    // 두 커밋의 트리를 비교하여 스터디 경로 아래 변경 목록 반환 (이름 변경 감지 포함)
+    // 첨부 파일 등 마크다운이 아닌 경로도 포함하며, 커밋을 찾을 수 없으면 예외 발생
+    public List<PathChange> diffStudyTree(String fromCommit, String toCommit) throws IOException {
+        Path repositoryRoot = Paths.get(repositoryStateService.getLocalPath());
+        String prefix = normalizeStudyPath();
+
+        List<DiffEntry> entries = gitService.withReader((repository, reader) -> {
+            // 빌린 reader 를 공유하므로 formatter 를 닫아도 reader 는 닫히지 않음
+            try (RevWalk revWalk = new RevWalk(reader);
+                 DiffFormatter formatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+                formatter.setReader(reader, repository.getConfig());
+                formatter.setDetectRenames(true);
+                if (!prefix.isEmpty()) {
+                    formatter.setPathFilter(PathFilter.create(prefix));
+                }
+
+                return formatter.scan(
+                        revWalk.parseCommit(ObjectId.fromString(fromCommit)).getTree(),
+                        revWalk.parseCommit(ObjectId.fromString(toCommit)).getTree());
+            }
+        });
+
+        List<PathChange> changes = new ArrayList<>(entries.size());
+        for (DiffEntry entry : entries) {
+            Path oldPath = DiffEntry.DEV_NULL.equals(entry.getOldPath()) ? null : repositoryRoot.resolve(entry.getOldPath());
+            Path newPath = DiffEntry.DEV_NULL.equals(entry.getNewPath()) ? null : repositoryRoot.resolve(entry.getNewPath());
+            changes.add(new PathChange(entry.getChangeType(), oldPath, newPath));
+        }
+        return changes;
+    }
+
+    // 스터디 경로 아래 마크다운 파일 중 변경된 항목만 통과시키는 필터
+    private TreeFilter createStudyDiffFilter() {
+        TreeFilter markdownFilter = AndTreeFilter.create(PathSuffixFilter.create(".md"), TreeFilter.ANY_DIFF);
+
+        String prefix = normalizeStudyPath();
+        if (prefix.isEmpty()) {
+            return markdownFilter;
+        }
+        return AndTreeFilter.create(PathFilter.create(prefix), markdownFilter);
+    }
+
+    private String normalizeStudyPath() {
+        String prefix = studyPath == null ? "" : studyPath.replace('\\', '/');
+        while (prefix.startsWith("/")) {
+            prefix = prefix.substring(1);
+        }
+        while (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        return prefix;
+    }
+}
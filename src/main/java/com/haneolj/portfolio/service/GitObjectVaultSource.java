@@ -0,0 +1,202 @@
+package com.haneolj.portfolio.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Git 객체 DB 에서 노트 읽기 (bare clone, 작업 트리 없음)
+// 동기화된 HEAD 커밋의 스터디 트리를 한 번 훑어 두고, 목록/내용/식별자를 모두 그 커밋 기준으로 응답
+// HEAD 가 바뀌면 다음 접근 시 새 커밋의 트리로 교체
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "obsidian.vault.source", havingValue = "git")
+public class GitObjectVaultSource implements VaultSource {
+
+    private final GitService gitService;
+    private final GitHistoryService gitHistoryService;
+    private final RepositoryStateService repositoryStateService;
+
+    @Value("${obsidian.repo.study-path}")
+    private String studyPath;
+
+    private volatile TreeSnapshot snapshot;
+
+    // 커밋 하나의 스터디 트리 (키는 '/' 로 구분한 경로)
+    private record TreeSnapshot(String commitId, Map<String, Entry> entries, Map<String, List<Entry>> children,
+            Map<String, ObjectId> blobIds) {
+    }
+
+    // 트리를 훑으며 찾은 파일 (마지막 변경 시간은 reader 를 반납한 뒤 채움)
+    private record FoundFile(Path path, String name) {
+    }
+
+    @Override
+    public List<Entry> list(Path directory) throws IOException {
+        List<Entry> entries = current().children().get(key(directory));
+        if (entries == null) {
+            throw new NoSuchFileException(directory.toString());
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    @Override
+    public Optional<Entry> stat(Path path) throws IOException {
+        return Optional.ofNullable(current().entries().get(key(path)));
+    }
+
+    @Override
+    public String read(Path file) throws IOException {
+        ObjectId blobId = current().blobIds().get(key(file));
+        if (blobId == null) {
+            throw new NoSuchFileException(file.toString());
+        }
+
+        byte[] bytes = gitService.withReader((repository, reader) -> reader.open(blobId, Constants.OBJ_BLOB).getBytes());
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 트리에 기록된 blob ID 를 그대로 사용 (내용을 다시 해시하지 않음)
+    @Override
+    public String contentId(Path file, String content) {
+        TreeSnapshot current = snapshot;
+        ObjectId blobId = current != null ? current.blobIds().get(key(file)) : null;
+        return blobId != null ? blobId.name() : VaultSource.blobId(content);
+    }
+
+    // 현재 HEAD 커밋의 트리 반환 (처음이거나 HEAD 가 바뀌었으면 새로 구성)
+    private TreeSnapshot current() throws IOException {
+        String headCommit = repositoryStateService.getHeadCommit();
+        if (headCommit == null) {
+            throw new IOException("HEAD 커밋을 확인할 수 없습니다");
+        }
+
+        TreeSnapshot current = snapshot;
+        if (current != null && current.commitId().equals(headCommit)) {
+            return current;
+        }
+
+        // 새 커밋의 이력 색인은 잠금 밖에서 먼저 갱신
+        // (전체 이력을 훑는 동안 다른 목록/내용 요청이 이 객체의 잠금에 막히지 않도록)
+        gitHistoryService.refreshIndex();
+
+        synchronized (this) {
+            if (snapshot == null || !snapshot.commitId().equals(headCommit)) {
+                snapshot = loadSnapshot(headCommit);
+            }
+            return snapshot;
+        }
+    }
+
+    // 커밋의 트리를 한 번 훑어 스터디 경로 아래 디렉토리/파일 목록과 blob ID 수집
+    private TreeSnapshot loadSnapshot(String commitId) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path repositoryRoot = Paths.get(repositoryStateService.getLocalPath());
+        String prefix = normalizeStudyPath();
+        Path studyRoot = prefix.isEmpty() ? repositoryRoot : repositoryRoot.resolve(prefix);
+
+        Map<String, Entry> entries = new HashMap<>();
+        Map<String, List<Entry>> children = new HashMap<>();
+        Map<String, ObjectId> blobIds = new HashMap<>();
+        List<FoundFile> files = new ArrayList<>();
+
+        Instant commitTime = gitService.withReader((repository, reader) -> {
+            // 빌린 reader 를 공유하므로 walk 를 닫아도 reader 는 닫히지 않음
+            try (RevWalk revWalk = new RevWalk(reader);
+                 TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+                RevCommit commit = revWalk.parseCommit(ObjectId.fromString(commitId));
+                Instant time = Instant.ofEpochSecond(commit.getCommitTime());
+
+                entries.put(key(studyRoot), new Entry(studyRoot, studyRoot.getFileName().toString(), true,
+                        time, time));
+                children.put(key(studyRoot), new ArrayList<>());
+
+                treeWalk.addTree(commit.getTree());
+                if (!prefix.isEmpty()) {
+                    treeWalk.setFilter(PathFilter.create(prefix));
+                }
+
+                while (treeWalk.next()) {
+                    String relativePath = treeWalk.getPathString();
+                    FileMode mode = treeWalk.getFileMode(0);
+                    boolean directory = mode == FileMode.TREE;
+                    boolean regularFile = mode == FileMode.REGULAR_FILE || mode == FileMode.EXECUTABLE_FILE;
+
+                    // 심볼릭 링크, 서브모듈은 건너뛰기
+                    if (isInsideStudy(relativePath, prefix) && (directory || regularFile)) {
+                        Path path = repositoryRoot.resolve(relativePath);
+                        if (directory) {
+                            Entry entry = new Entry(path, treeWalk.getNameString(), true, time, time);
+                            entries.put(key(path), entry);
+                            children.computeIfAbsent(key(path.getParent()), k -> new ArrayList<>()).add(entry);
+                            children.computeIfAbsent(key(path), k -> new ArrayList<>());
+                        } else {
+                            files.add(new FoundFile(path, treeWalk.getNameString()));
+                            blobIds.put(key(path), treeWalk.getObjectId(0));
+                        }
+                    }
+
+                    if (directory) {
+                        treeWalk.enterSubtree();
+                    }
+                }
+                return time;
+            }
+        });
+
+        // 파일별 마지막 변경 시간은 reader 를 반납한 뒤 이미 갱신된 이력 색인에서 조회
+        for (FoundFile file : files) {
+            Instant lastModified = gitHistoryService.getLastCommitTime(file.path());
+            Entry entry = new Entry(file.path(), file.name(), false,
+                    lastModified != null ? lastModified : commitTime, commitTime);
+            entries.put(key(file.path()), entry);
+            children.computeIfAbsent(key(file.path().getParent()), k -> new ArrayList<>()).add(entry);
+        }
+
+        log.info("Git 트리 로드 완료: 커밋 {}, 파일 {} 개, {}ms",
+                commitId.substring(0, Math.min(7, commitId.length())), blobIds.size(),
+                System.currentTimeMillis() - startTime);
+        return new TreeSnapshot(commitId, entries, children, blobIds);
+    }
+
+    private boolean isInsideStudy(String relativePath, String prefix) {
+        return prefix.isEmpty() || relativePath.startsWith(prefix + "/");
+    }
+
+    private String key(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+
+    private String normalizeStudyPath() {
+        String prefix = studyPath == null ? "" : studyPath.replace('\\', '/');
+        while (prefix.startsWith("/")) {
+            prefix = prefix.substring(1);
+        }
+        while (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        return prefix;
+    }
+}
@@ -1,19 +1,21 @@
 package com.haneolj.portfolio.service;
 
-import java.nio.file.attribute.FileTime;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import org.eclipse.jgit.revwalk.RevCommit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
@@ -21,6 +23,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -35,12 +43,94 @@ public class GitService {
     @Value("${obsidian.repo.local-path}")
     private String obsidianLocalPath;
 
+    // git 이면 작업 트리 없이 bare clone 으로 유지 (노트는 GitObjectVaultSource 가 객체 DB 에서 읽음)
+    @Value("${obsidian.vault.source:worktree}")
+    private String vaultSource;
+
     @Value("${github.username}")
     private String githubUsername;
 
     @Value("${github.token}")
     private String githubToken;
 
+    // JGit 팩 파일/객체 캐시 설정
+    @Value("${obsidian.git.packed-git-limit:33554432}")
+    private long packedGitLimit;
+
+    @Value("${obsidian.git.packed-git-window-size:8192}")
+    private int packedGitWindowSize;
+
+    @Value("${obsidian.git.packed-git-open-files:128}")
+    private int packedGitOpenFiles;
+
+    @Value("${obsidian.git.delta-base-cache-limit:10485760}")
+    private int deltaBaseCacheLimit;
+
+    @Value("${obsidian.git.stream-file-threshold:52428800}")
+    private int streamFileThreshold;
+
+    @Value("${obsidian.git.reader-pool-size:0}")
+    private int readerPoolSize;
+
+    // 애플리케이션 전체에서 공유하는 저장소 핸들과 그 세대 (clone, repack 이후에만 다시 열기)
+    // 핸들과 세대를 한 필드로 함께 교체해 새 핸들과 이전 세대가 섞이지 않도록 함
+    private volatile OpenRepository openRepository;
+
+    // 핸들을 열 때 있던 팩 파일 이름 (gc/repack 으로 팩이 교체되었는지 확인하는 데 사용)
+    private volatile Set<String> openedPackFiles = Set.of();
+
+    // 저장소 핸들을 닫을 때마다 증가, 이전 핸들에서 만든 reader 를 풀에 되돌리지 않기 위해 사용
+    private final AtomicInteger repositoryGeneration = new AtomicInteger();
+
+    // <저장소 세대, ObjectReader> 재사용 풀
+    // 풀에 있는 reader 는 열린 상태 그대로 두어 inflater, 윈도우 캐시를 다음 작업에서 재사용
+    // (닫는 것은 저장소를 다시 열거나 풀이 가득 찼을 때만)
+    private final Deque<PooledReader> readerPool = new ConcurrentLinkedDeque<>();
+
+    @FunctionalInterface
+    public interface ReaderCallback<T> {
+        T apply(Repository repository, ObjectReader reader) throws IOException;
+    }
+
+    private record OpenRepository(Repository repository, int generation) {
+    }
+
+    private record PooledReader(int generation, ObjectReader reader) {
+    }
+
+    // 팩 파일 캐시 크기 적용 (JVM 전역 설정)
+    @PostConstruct
+    public void configureWindowCache() {
+        WindowCacheConfig config = new WindowCacheConfig();
+        config.setPackedGitLimit(packedGitLimit);
+        config.setPackedGitWindowSize(packedGitWindowSize);
+        config.setPackedGitOpenFiles(packedGitOpenFiles);
+        config.setDeltaBaseCacheLimit(deltaBaseCacheLimit);
+        config.setStreamFileThreshold(streamFileThreshold);
+        config.install();
+
+        if (readerPoolSize <= 0) {
+            readerPoolSize = Runtime.getRuntime().availableProcessors();
+        }
+
+        log.info("JGit 캐시 설정: packedGitLimit={}, windowSize={}, deltaBaseCacheLimit={}, readerPool={}",
+                packedGitLimit, packedGitWindowSize, deltaBaseCacheLimit, readerPoolSize);
+    }
+
+    // 공유 핸들 닫기
+    // 세대를 먼저 올려 이전 핸들의 reader 가 풀로 돌아오지 않게 하고,
+    // withReader 작업 중인 핸들은 마지막 작업이 끝날 때 실제로 닫힘
+    @PreDestroy
+    public synchronized void closeRepository() {
+        OpenRepository current = openRepository;
+        openRepository = null;
+        repositoryGeneration.incrementAndGet();
+        drainReaderPool();
+        if (current != null) {
+            current.repository().close();
+        }
+    }
+
 
     // GitHub 자격 증명 제공자 생성
     private CredentialsProvider getCredentialsProvider() {
@@ -53,12 +143,14 @@ public class GitService {
     // 저장소가 로컬에 있는지 확인
     // 1. 존재하지 않는다? git clone 하기
     // 2. 존재한다? git pull 하기
+    // 네트워크를 사용하므로 RepositoryStateService 의 동기화 시점에서만 호출
     public String ensureRepository() {
         Path repoPath = Paths.get(obsidianLocalPath);
 
         try {
             if (isGitRepository(repoPath)) {
-                pullRepository(repoPath);
+                pullRepository();
+                reopenIfRepacked();
             } else {
                 cloneRepository(repoPath);
             }
@@ -69,20 +161,176 @@ public class GitService {
         }
     }
 
+    // 로컬 저장소가 이미 존재하는지 확인 (네트워크 접근 없음)
+    public boolean isRepositoryAvailable() {
+        return isGitRepository(Paths.get(obsidianLocalPath));
+    }
+
+    // 로컬 저장소 경로 반환 (네트워크 접근 없음)
+    public String getLocalRepositoryPath() {
+        return Paths.get(obsidianLocalPath).toString();
+    }
+
+    // Git 디렉토리 경로 (bare clone 이면 저장소 경로 자체, 아니면 .git)
+    public Path getGitDirectory() {
+        Path repoPath = Paths.get(obsidianLocalPath);
+        return isBare() ? repoPath : repoPath.resolve(".git");
+    }
+
+    // 공유 저장소 핸들 반환 (호출한 쪽에서 close 하지 않음)
+    // 여러 스레드에서 동시에 사용해도 안전
+    public Repository getRepository() throws IOException {
+        return openHandle().repository();
+    }
+
+    // 저장소 핸들 다시 열기 (clone, repack 등으로 저장소 파일이 교체된 경우)
+    public synchronized void reopenRepository() {
+        closeRepository();
+        log.info("저장소 핸들 닫음, 다음 접근 시 다시 엽니다");
+    }
+
+    // 풀에서 빌린 ObjectReader 로 작업 수행
+    // ObjectReader 는 스레드 안전하지 않으므로 한 번에 한 스레드만 사용하고 작업이 끝나면 반납
+    // 작업하는 동안 핸들의 사용 횟수를 올려 두므로 도중에 저장소를 다시 열어도 이 작업의 핸들은 닫히지 않음
+    public <T> T withReader(ReaderCallback<T> callback) throws IOException {
+        OpenRepository current = acquireRepository();
+        try {
+            PooledReader pooled = readerPool.pollFirst();
+            if (pooled == null || pooled.generation() != current.generation()) {
+                if (pooled != null) {
+                    pooled.reader().close();
+                }
+                pooled = new PooledReader(current.generation(), current.repository().newObjectReader());
+            }
+
+            try {
+                return callback.apply(current.repository(), pooled.reader());
+            } finally {
+                releaseReader(pooled);
+            }
+        } finally {
+            current.repository().close();
+        }
+    }
+
+    // 현재 HEAD 커밋 ID 조회
+    public String resolveHeadCommit() {
+        try {
+            ObjectId head = getRepository().resolve(Constants.HEAD);
+            return head != null ? head.name() : null;
+        } catch (IOException e) {
+            log.warn("HEAD 커밋을 확인할 수 없습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // repo 경로가 Git 경로인지 확인
+    // bare 방식이면 경로 자체가 Git 디렉토리여야 함 (작업 트리 clone 이 남아 있으면 다시 clone)
     private boolean isGitRepository(Path path) {
+        if (isBare()) {
+            return Files.isRegularFile(path.resolve("HEAD")) && Files.isDirectory(path.resolve("objects"));
+        }
+
         Path gitDir = path.resolve(".git");
         return Files.exists(gitDir) && Files.isDirectory(gitDir);
     }
 
+    private boolean isBare() {
+        return "git".equalsIgnoreCase(vaultSource);
+    }
+
+    // 현재 핸들 (닫혀 있으면 새로 열기)
+    private OpenRepository openHandle() throws IOException {
+        OpenRepository current = openRepository;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (openRepository == null) {
+                FileRepositoryBuilder builder = new FileRepositoryBuilder().setGitDir(getGitDirectory().toFile());
+                if (isBare()) {
+                    builder.setBare();
+                }
+                openRepository = new OpenRepository(builder.build(), repositoryGeneration.get());
+                openedPackFiles = listPackFiles();
+                log.info("저장소 핸들 열기: {}", obsidianLocalPath);
+            }
+            return openRepository;
+        }
+    }
+
+    // 현재 핸들의 사용 횟수를 올려서 반환 (사용이 끝나면 Repository.close 로 반납)
+    // closeRepository 와 같은 잠금 안에서 올려 이미 닫힌 핸들을 다시 사용하지 않도록 함
+    private synchronized OpenRepository acquireRepository() throws IOException {
+        OpenRepository current = openHandle();
+        current.repository().incrementOpen();
+        return current;
+    }
+
+    // 다 쓴 reader 를 열린 상태로 풀에 반납 (풀이 가득 찼거나 저장소가 다시 열렸으면 닫기)
+    // 검사 직후 핸들이 닫혀 풀에 남더라도 withReader 에서 세대를 다시 확인해 버림
+    private void releaseReader(PooledReader pooled) {
+        if (pooled.generation() == repositoryGeneration.get() && readerPool.size() < readerPoolSize) {
+            readerPool.offerFirst(pooled);
+        } else {
+            pooled.reader().close();
+        }
+    }
+
+    // 핸들을 연 뒤 팩 파일이 사라졌으면(pull 의 병합 후 자동 gc, 외부 git gc/repack) 핸들 다시 열기
+    // 삭제된 팩을 붙잡고 있는 핸들과 reader 를 정리하고 새 팩 목록으로 시작
+    private void reopenIfRepacked() {
+        if (openRepository == null) {
+            return;
+        }
+
+        Set<String> packFiles = listPackFiles();
+        if (!packFiles.containsAll(openedPackFiles)) {
+            log.info("팩 파일 변경 감지 (gc/repack), 저장소 핸들을 다시 엽니다: 이전 {} 개, 현재 {} 개",
+                    openedPackFiles.size(), packFiles.size());
+            reopenRepository();
+        }
+    }
+
+    // objects/pack 아래 팩 파일 이름 목록
+    private Set<String> listPackFiles() {
+        Path packDirectory = getGitDirectory().resolve("objects").resolve("pack");
+        if (!Files.isDirectory(packDirectory)) {
+            return Set.of();
+        }
+
+        try (Stream<Path> files = Files.list(packDirectory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".pack"))
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (IOException e) {
+            log.warn("팩 파일 목록을 읽을 수 없습니다: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void drainReaderPool() {
+        PooledReader pooled;
+        while ((pooled = readerPool.pollFirst()) != null) {
+            pooled.reader().close();
+        }
+    }
 
     // git pull
-    private void pullRepository(Path repoPath) throws IOException, GitAPIException {
-        Repository repository = new FileRepositoryBuilder()
-                .setGitDir(repoPath.resolve(".git").toFile())
-                .build();
+    // 공유 핸들을 그대로 사용 (new Git(repository) 는 close 시 저장소를 닫지 않음)
+    // bare clone 은 병합할 작업 트리가 없으므로 대상 브랜치를 원격 커밋으로 바로 갱신 (강제 푸시 포함)
+    private void pullRepository() throws IOException, GitAPIException {
+        try (Git git = new Git(getRepository())) {
+            if (isBare()) {
+                String branchRef = Constants.R_HEADS + obsidianRepoBranch;
+                git.fetch()
+                        .setRefSpecs(new RefSpec("+" + branchRef + ":" + branchRef))
+                        .setCredentialsProvider(getCredentialsProvider())
+                        .call();
+                return;
+            }
 
-        try (Git git = new Git(repository)) {
             git.pull()
                     .setRemoteBranchName(obsidianRepoBranch)
                     .setCredentialsProvider(getCredentialsProvider())
@@ -100,12 +348,18 @@ public class GitService {
             deleteDirectory(repoPath.toFile());
         }
 
-        Git.cloneRepository()
+        // 이전 핸들이 있다면 닫고, clone 결과로 다시 열기
+        reopenRepository();
+
+        try (Git git = Git.cloneRepository()
                 .setURI(obsidianRepoUrl)
                 .setDirectory(repoPath.toFile())
+                .setBare(isBare())
                 .setBranch(obsidianRepoBranch)
                 .setCredentialsProvider(getCredentialsProvider())
-                .call();
+                .call()) {
+            log.info("저장소 clone 완료: {}", git.getRepository().getDirectory());
+        }
     }
 
     // 디렉토리 재귀적으로 삭제
@@ -122,55 +376,4 @@ public class GitService {
         }
         directory.delete();
     }
-
-    // 파일 생성 시간 가져오기
-    public LocalDateTime getFileCreationDate(Path filePath) {
-        try {
-            Repository repository = new FileRepositoryBuilder()
-                    .setGitDir(Paths.get(obsidianLocalPath, ".git").toFile())
-                    .build();
-
-            try (Git git = new Git(repository)) {
-
-                // 저장소 루트로부터의 상대 경로 가져오기
-                String relativePath = Paths.get(obsidianLocalPath).relativize(filePath).toString();
-
-                // 이 파일에 대한 모든 커밋을 커밋 시간 순으로 정렬하여 가져오기
-                Iterable<RevCommit> commits = git.log()
-                        .addPath(relativePath.replace('\\', '/'))
-                        .call();
-
-                // 가장 오래된 커밋 찾기
-                RevCommit oldestCommit = null;
-                for (RevCommit commit : commits) {
-                    oldestCommit = commit;
-                }
-
-                if (oldestCommit != null) {
-                    // 커밋 시간을 LocalDateTime으로 변환
-                    return LocalDateTime.ofInstant(
-                            Instant.ofEpochSecond(oldestCommit.getCommitTime()),
-                            ZoneId.systemDefault());
-                }
-            }
-
-            // Git 이력이 없는 경우 파일 생성 시간으로 대체
-            return LocalDateTime.ofInstant(
-                    (Files.getAttribute(filePath, "creationTime") != null)
-                            ? ((FileTime)Files.getAttribute(filePath, "creationTime")).toInstant()
-                            : Files.getLastModifiedTime(filePath).toInstant(),
-                    ZoneId.systemDefault());
-        } catch (Exception e) {
-            log.warn("파일 생성 시간을 가져올 수 없습니다: {}", e.getMessage());
-            // 대안으로 마지막 수정 시간 반환
-            try {
-                return LocalDateTime.ofInstant(
-                        Files.getLastModifiedTime(filePath).toInstant(),
-                        ZoneId.systemDefault());
-            } catch (IOException ex) {
-                log.error("파일 시간 정보를 가져올 수 없습니다: {}", ex.getMessage());
-                return LocalDateTime.now(); // 그것도 안되면 현재 시간 뿌리기
-            }
-        }
-    }
 }
\ No newline at end of file
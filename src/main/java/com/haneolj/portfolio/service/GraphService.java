@@ -1,120 +1,726 @@
 package com.haneolj.portfolio.service;
 
+import com.haneolj.portfolio.dto.BacklinkDto;
 import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.GraphChangeDto;
+import com.haneolj.portfolio.dto.GraphChangesDto;
 import com.haneolj.portfolio.dto.GraphDataDto;
+import com.haneolj.portfolio.dto.GraphFormat;
 import com.haneolj.portfolio.dto.GraphLinkDto;
 import com.haneolj.portfolio.dto.GraphNodeDto;
+import com.haneolj.portfolio.dto.GraphPayloadDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.haneolj.portfolio.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
+// 노트 링크 그래프
+// StudyService 가 노트 추가/수정/삭제를 알려주면 바뀐 노트의 링크만 다시 계산
+// 노드 ID 는 경로별로 한 번 정해지면 바뀌지 않음
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GraphService {
 
-    private final StudyService studyService;
+    // 보관할 최대 변경 기록 수 (넘으면 오래된 것부터 버림)
+    private static final int MAX_RETAINED_CHANGES = 10000;
+
+    // <"버전:노드 ID:깊이:최대 노드 수", 주변 그래프> 버전이 키에 포함되므로 이전 버전 결과는 자연히 밀려남
+    // 크기는 CacheConfig 에서 설정
+    private static final String NEIGHBOR_CACHE = "graphNeighborCache";
+
+    // 주변 그래프 조회 제한
+    public static final int MAX_NEIGHBOR_DEPTH = 3;
+    public static final int MAX_NEIGHBOR_LIMIT = 500;
+
     private final StringUtils stringUtils;
+    private final NoteIndexService noteIndexService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
 
-    // 마크다운 파일 내부 링크 정보를 바탕으로 그래프 데이터를 생성 & 캐싱
-    @Cacheable(value = "graphDataCache", unless = "#result == null")
-    public GraphDataDto getGraphData() {
-        log.info("마크다운 파일의 그래프 데이터 생성 중...");
+    // <파일 경로, 노드 ID>
+    private final Map<String, Integer> idByPath = new HashMap<>();
 
-        // 스터디 구조 가져오기
-        CategoryNodeDto studyRoot = studyService.getStudyStructure();
-        if (studyRoot == null) {
-            log.warn("스터디 구조를 가져올 수 없습니다.");
-            return null;
+    // <노드 ID, 노드> (ID 순서 유지)
+    private final Map<Integer, GraphNote> notes = new LinkedHashMap<>();
+
+    // <링크 대상 키, 해당 링크를 가진 노드 ID 목록> 대상 노트가 아직 없는 링크
+    private final Map<String, Set<Integer>> pendingLinks = new HashMap<>();
+
+    // <링크 대상 키, 해당 링크를 가진 노드 ID 목록> 이미 다른 노트로 해석된 링크
+    // 같은 이름의 노트가 새로 생기면 해석 결과가 바뀔 수 있으므로 함께 다시 계산
+    private final Map<String, Set<Integer>> resolvedLinks = new HashMap<>();
+
+    private final Deque<GraphChangeDto> changes = new ArrayDeque<>();
+
+    private int nextId;
+    private long version;
+    private Instant updatedAt = Instant.now();
+
+    // 변경 기록 일부가 버려진 가장 최근 버전 (이 버전 이전부터의 변경은 제공할 수 없음)
+    private long trimmedVersion;
+
+    // 현재 변경 작업에 붙일 버전 (변경이 기록되면 version 으로 확정)
+    private long changeVersion;
+    private boolean changed;
+
+    // 버전별로 한 번만 만드는 전체 그래프 데이터와 직렬화 결과
+    private GraphDataDto graphData;
+    private final Map<GraphFormat, GraphPayloadDto> graphPayloads = new EnumMap<>(GraphFormat.class);
+
+    // 버전별로 한 번만 만드는 인접 배열 (주변 그래프 탐색용)
+    private AdjacencyIndex adjacencyIndex;
+
+    private static final class GraphNote {
+        private final int id;
+        private final String path;
+        private final String name;
+        private final String pageId;
+        // 노트에 적힌 링크 그대로, <링크, 문맥>
+        private List<String> links = List.of();
+        private Map<String, String> linkSnippets = Map.of();
+        // <링크 대상 노드 ID, 해당 링크의 문맥> (백링크 표시용)
+        private Map<Integer, String> snippetByTarget = Map.of();
+        private final Set<Integer> outgoing = new LinkedHashSet<>();
+        private final Set<Integer> incoming = new LinkedHashSet<>();
+        private final Set<String> pendingKeys = new HashSet<>();
+        private final Set<String> resolvedKeys = new HashSet<>();
+
+        private GraphNote(int id, String path, String name, String pageId) {
+            this.id = id;
+            this.path = path;
+            this.name = name;
+            this.pageId = pageId;
         }
+    }
 
-        GraphDataDto graphData = new GraphDataDto();
-        Map<String, String> pathToIdMap = new HashMap<>(); // <파일 경로, 노드 ID>
-        Map<String, String> nameToIdMap = new HashMap<>(); // <파일 이름, 노드 ID>
-        Set<String> processedLinks = new HashSet<>(); // 중복 링크 방지
+    // 노드 ID 를 0부터 시작하는 위치로 바꾼 방향 없는 인접 목록 (CSR)
+    // position 의 이웃은 neighbors[offsets[position] .. offsets[position + 1])
+    private record AdjacencyIndex(long version, int[] ids, String[] names, String[] pageIds,
+                                  Map<Integer, Integer> positions, int[] offsets, int[] neighbors) {
+    }
 
-        // 노드, 링크 수집
-        collectNodes(studyRoot, graphData, pathToIdMap, nameToIdMap);
-        collectLinks(studyRoot, graphData, pathToIdMap, nameToIdMap, processedLinks);
+    // 전체 그래프 데이터 반환 (그래프가 바뀌지 않았으면 이전 결과 재사용)
+    public synchronized GraphDataDto getGraphData() {
+        if (graphData != null && graphData.getVersion() == version) {
+            return graphData;
+        }
 
-        log.info("그래프 데이터 생성 완료: 노드 {} 개, 링크 {} 개",
-                graphData.getNodes().size(), graphData.getLinks().size());
+        GraphDataDto newGraphData = new GraphDataDto();
+        newGraphData.setVersion(version);
+
+        for (GraphNote note : notes.values()) {
+            GraphNodeDto graphNode = new GraphNodeDto();
+            graphNode.setId(toClientId(note.id));
+            graphNode.setName(note.name);
+            graphNode.setEncodedPath(note.pageId);
+            newGraphData.getNodes().add(graphNode);
+        }
 
+        // 양방향 링크는 한 번만 포함
+        for (GraphNote note : notes.values()) {
+            for (int targetId : note.outgoing) {
+                if (note.incoming.contains(targetId) && targetId < note.id) {
+                    continue;
+                }
+                newGraphData.getLinks().add(new GraphLinkDto(toClientId(note.id), toClientId(targetId), 1.0));
+            }
+        }
+
+        log.info("그래프 데이터 생성 완료 (버전 {}): 노드 {} 개, 링크 {} 개",
+                version, newGraphData.getNodes().size(), newGraphData.getLinks().size());
+
+        graphData = newGraphData;
         return graphData;
     }
 
-    // 캐시된 그래프 데이터 갱신
-    @CacheEvict(value = "graphDataCache", allEntries = true)
-    public void refreshGraphData() {
-        log.info("그래프 데이터 캐시 초기화");
+    // 전체 그래프를 형식/버전별로 한 번만 직렬화하여 원본/gzip 바이트로 보관
+    // 같은 버전이면 직렬화 없이 보관한 바이트를 그대로 반환
+    public synchronized GraphPayloadDto getGraphPayload(GraphFormat format) {
+        GraphPayloadDto payload = graphPayloads.get(format);
+        if (payload != null && payload.getVersion() == version) {
+            return payload;
+        }
+
+        try {
+            byte[] bytes = switch (format) {
+                case JSON -> objectMapper.writeValueAsBytes(getGraphData());
+                case COLUMNAR -> writeColumnar();
+                case BINARY -> writeBinary();
+            };
+            byte[] gzipBytes = gzip(bytes);
+
+            payload = new GraphPayloadDto(version, notes.size(), bytes, gzipBytes, sha256(bytes), updatedAt);
+            graphPayloads.put(format, payload);
+
+            log.info("그래프 응답 직렬화 완료 (버전 {}, {}): {} bytes, gzip {} bytes",
+                    version, format.getParameter(), bytes.length, gzipBytes.length);
+            return payload;
+        } catch (IOException e) {
+            log.error("그래프 데이터 직렬화 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("그래프 데이터 직렬화 실패", e);
+        }
+    }
+
+    // 열 단위 JSON
+    // {"version":1,"ids":[..],"names":[..],"slugs":[..],"source":[..],"target":[..]}
+    // source/target 은 노드 배열의 인덱스, ids 는 변경 목록(node-<id>)과 맞추기 위한 노드 ID
+    private byte[] writeColumnar() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(notes.size() * 96 + 64);
+        Map<Integer, Integer> positions = nodePositions();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", version);
+
+            generator.writeArrayFieldStart("ids");
+            for (GraphNote note : notes.values()) {
+                generator.writeNumber(note.id);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("names");
+            for (GraphNote note : notes.values()) {
+                generator.writeString(note.name);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("slugs");
+            for (GraphNote note : notes.values()) {
+                generator.writeString(note.pageId);
+            }
+            generator.writeEndArray();
+
+            List<int[]> links = collectLinks(positions);
+
+            generator.writeArrayFieldStart("source");
+            for (int[] link : links) {
+                generator.writeNumber(link[0]);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("target");
+            for (int[] link : links) {
+                generator.writeNumber(link[1]);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+
+        return output.toByteArray();
     }
 
-    // 모든 마크다운 파일 노드 수집
-    private void collectNodes(CategoryNodeDto node, GraphDataDto graphData,
-            Map<String, String> pathToIdMap, Map<String, String> nameToIdMap) {
-        if (!node.isDirectory()) {
-            // 파일 노드
-            String nodePath = node.getPath();
-            String nodeId = "node-" + graphData.getNodes().size();
-            String encodedPath = stringUtils.encodeBase64Url(nodePath);
+    // 바이너리 (빅 엔디언)
+    // "HGRF" | int 형식 버전(1) | long 그래프 버전 | int 노드 수 | int[] ids
+    // | 노드 수만큼 (UTF name, UTF slug) | int 링크 수 | int[] source | int[] target
+    private byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(notes.size() * 80 + 64);
+        Map<Integer, Integer> positions = nodePositions();
+        List<int[]> links = collectLinks(positions);
 
-            // 노드 추가
-            GraphNodeDto graphNode = new GraphNodeDto();
-            graphNode.setId(nodeId);
-            graphNode.setName(node.getName());
-            graphNode.setEncodedPath(encodedPath);
-
-            graphData.getNodes().add(graphNode);
-
-            // 매핑 저장
-            pathToIdMap.put(nodePath, nodeId);
-            nameToIdMap.put(node.getName(), nodeId);
-        } else {
-            // 디렉토리에서 재귀적으로 자식 노드 탐색
-            for (CategoryNodeDto child : node.getChildren()) {
-                collectNodes(child, graphData, pathToIdMap, nameToIdMap);
-            }
-        }
-    }
-
-    // 마크다운 파일 간의 링크 수집
-    private void collectLinks(CategoryNodeDto node, GraphDataDto graphData,
-            Map<String, String> pathToIdMap, Map<String, String> nameToIdMap,
-            Set<String> processedLinks) {
-        if (!node.isDirectory()) {
-            // 파일 내부 링크 정보 처리
-            String sourceId = pathToIdMap.get(node.getPath());
-
-            if (sourceId != null && !node.getLinks().isEmpty()) {
-                for (String targetName : node.getLinks()) {
-                    // 링크 대상 찾기
-                    String targetId = nameToIdMap.get(targetName);
-
-                    if (targetId != null) {
-                        // 링크 중복 방지
-                        String linkKey = sourceId + "-" + targetId;
-                        String reverseLinkKey = targetId + "-" + sourceId;
-
-                        if (!processedLinks.contains(linkKey) && !processedLinks.contains(reverseLinkKey)) {
-                            graphData.getLinks().add(new GraphLinkDto(sourceId, targetId, 1.0));
-                            processedLinks.add(linkKey);
-                        }
-                    }
+        try (DataOutputStream data = new DataOutputStream(output)) {
+            data.writeBytes("HGRF");
+            data.writeInt(1);
+            data.writeLong(version);
+
+            data.writeInt(notes.size());
+            for (GraphNote note : notes.values()) {
+                data.writeInt(note.id);
+            }
+            for (GraphNote note : notes.values()) {
+                data.writeUTF(note.name);
+                data.writeUTF(note.pageId);
+            }
+
+            data.writeInt(links.size());
+            for (int[] link : links) {
+                data.writeInt(link[0]);
+            }
+            for (int[] link : links) {
+                data.writeInt(link[1]);
+            }
+        }
+
+        return output.toByteArray();
+    }
+
+    // <노드 ID, 노드 배열 인덱스>
+    private Map<Integer, Integer> nodePositions() {
+        Map<Integer, Integer> positions = new HashMap<>(notes.size() * 2);
+        for (GraphNote note : notes.values()) {
+            positions.put(note.id, positions.size());
+        }
+        return positions;
+    }
+
+    // 노드 쌍 단위 링크 목록 [source 인덱스, target 인덱스] (양방향 링크는 한 번만 포함)
+    private List<int[]> collectLinks(Map<Integer, Integer> positions) {
+        List<int[]> links = new ArrayList<>();
+        for (GraphNote note : notes.values()) {
+            for (int targetId : note.outgoing) {
+                if (note.incoming.contains(targetId) && targetId < note.id) {
+                    continue;
+                }
+                links.add(new int[]{positions.get(note.id), positions.get(targetId)});
+            }
+        }
+        return links;
+    }
+
+    // 노트 주변 depth 단계 이내의 그래프 반환 (가까운 노트부터 최대 limit 개)
+    // 노트가 그래프에 없으면 null
+    public GraphDataDto getNeighbors(String path, int depth, int limit) {
+        AdjacencyIndex index;
+        Integer id;
+        synchronized (this) {
+            index = getAdjacencyIndex();
+            id = idByPath.get(path);
+        }
+
+        Integer start = id != null ? index.positions().get(id) : null;
+        if (start == null) {
+            return null;
+        }
+
+        int boundedDepth = Math.max(0, Math.min(depth, MAX_NEIGHBOR_DEPTH));
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_NEIGHBOR_LIMIT));
+        String key = index.version() + ":" + id + ":" + boundedDepth + ":" + boundedLimit;
+
+        Cache neighborCache = cacheManager.getCache(NEIGHBOR_CACHE);
+        if (neighborCache == null) {
+            return searchNeighbors(index, start, boundedDepth, boundedLimit);
+        }
+        return neighborCache.get(key, () -> searchNeighbors(index, start, boundedDepth, boundedLimit));
+    }
+
+    // 현재 버전의 인접 배열 반환 (없으면 생성)
+    private synchronized AdjacencyIndex getAdjacencyIndex() {
+        if (adjacencyIndex != null && adjacencyIndex.version() == version) {
+            return adjacencyIndex;
+        }
+
+        int count = notes.size();
+        int[] ids = new int[count];
+        String[] names = new String[count];
+        String[] pageIds = new String[count];
+        Map<Integer, Integer> positions = nodePositions();
+
+        int[] offsets = new int[count + 1];
+        int[] neighbors = new int[0];
+        int size = 0;
+        int position = 0;
+
+        for (GraphNote note : notes.values()) {
+            ids[position] = note.id;
+            names[position] = note.name;
+            pageIds[position] = note.pageId;
+            offsets[position] = size;
+
+            int required = size + note.outgoing.size() + note.incoming.size();
+            if (required > neighbors.length) {
+                neighbors = Arrays.copyOf(neighbors, Math.max(required, neighbors.length * 2));
+            }
+
+            for (int targetId : note.outgoing) {
+                neighbors[size++] = positions.get(targetId);
+            }
+            // 양방향 링크는 outgoing 에서 이미 추가됨
+            for (int sourceId : note.incoming) {
+                if (!note.outgoing.contains(sourceId)) {
+                    neighbors[size++] = positions.get(sourceId);
+                }
+            }
+            position++;
+        }
+        offsets[count] = size;
+
+        adjacencyIndex = new AdjacencyIndex(version, ids, names, pageIds, positions,
+                offsets, Arrays.copyOf(neighbors, size));
+        return adjacencyIndex;
+    }
+
+    // 시작 노드부터 너비 우선 탐색, 방문한 노드 사이의 링크만 포함
+    private GraphDataDto searchNeighbors(AdjacencyIndex index, int start, int depth, int limit) {
+        int[] offsets = index.offsets();
+        int[] neighbors = index.neighbors();
+
+        // 방문 순서 = 결과 노드 순서, distance 는 방문하지 않았으면 -1
+        int[] queue = new int[limit];
+        int[] distance = new int[index.ids().length];
+        Arrays.fill(distance, -1);
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distance[start] = 0;
+
+        while (head < tail && tail < limit) {
+            int current = queue[head++];
+            if (distance[current] == depth) {
+                continue;
+            }
+
+            for (int i = offsets[current]; i < offsets[current + 1] && tail < limit; i++) {
+                int next = neighbors[i];
+                if (distance[next] < 0) {
+                    distance[next] = distance[current] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        GraphDataDto result = new GraphDataDto();
+        result.setVersion(index.version());
+
+        for (int i = 0; i < tail; i++) {
+            int position = queue[i];
+            result.getNodes().add(new GraphNodeDto(toClientId(index.ids()[position]),
+                    index.names()[position], index.pageIds()[position]));
+        }
+
+        for (int i = 0; i < tail; i++) {
+            int position = queue[i];
+            for (int j = offsets[position]; j < offsets[position + 1]; j++) {
+                int next = neighbors[j];
+                if (position < next && distance[next] >= 0) {
+                    result.getLinks().add(new GraphLinkDto(toClientId(index.ids()[position]),
+                            toClientId(index.ids()[next]), 1.0));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // 노트를 링크한 노트 목록 (들어오는 링크만 보므로 링크 수에 비례)
+    public synchronized List<BacklinkDto> getBacklinks(String path) {
+        Integer id = idByPath.get(path);
+        if (id == null) {
+            return List.of();
+        }
+
+        GraphNote note = notes.get(id);
+        List<BacklinkDto> backlinks = new ArrayList<>(note.incoming.size());
+        for (int sourceId : note.incoming) {
+            GraphNote source = notes.get(sourceId);
+            backlinks.add(new BacklinkDto(source.name, source.pageId,
+                    source.snippetByTarget.getOrDefault(id, "")));
+        }
+
+        backlinks.sort(Comparator.comparing(BacklinkDto::getName, String.CASE_INSENSITIVE_ORDER));
+        return backlinks;
+    }
+
+    // since 버전 이후의 변경 목록 반환
+    public synchronized GraphChangesDto getChanges(long since) {
+        if (since == version) {
+            return new GraphChangesDto(version, false, List.of());
+        }
+
+        // 미래 버전이거나 기록이 이미 버려진 경우 전체 그래프를 다시 받도록 안내
+        if (since > version || since < trimmedVersion || changes.isEmpty()) {
+            return new GraphChangesDto(version, true, List.of());
+        }
+
+        List<GraphChangeDto> result = new ArrayList<>();
+        Iterator<GraphChangeDto> iterator = changes.descendingIterator();
+        while (iterator.hasNext()) {
+            GraphChangeDto change = iterator.next();
+            if (change.getVersion() <= since) {
+                break;
+            }
+            result.add(change);
+        }
+        Collections.reverse(result);
+
+        return new GraphChangesDto(version, false, result);
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    // 전체 스캔 결과와 그래프를 맞춤
+    // 기존 경로의 노드 ID 는 유지하고, 사라진 노트만 제거
+    public synchronized void rebuild(Collection<CategoryNodeDto> fileNodes) {
+        beginChange();
+
+        Set<String> paths = new HashSet<>();
+        for (CategoryNodeDto fileNode : fileNodes) {
+            paths.add(fileNode.getPath());
+        }
+
+        for (String path : new ArrayList<>(idByPath.keySet())) {
+            if (!paths.contains(path)) {
+                removeNoteInternal(path);
+            }
+        }
+
+        // 노드를 모두 만든 뒤 링크 계산 (서로를 가리키는 새 노트끼리도 연결되도록)
+        for (CategoryNodeDto fileNode : fileNodes) {
+            ensureNote(fileNode);
+        }
+        for (CategoryNodeDto fileNode : fileNodes) {
+            updateLinks(notes.get(idByPath.get(fileNode.getPath())), fileNode);
+        }
+
+        finishChange();
+        log.info("그래프 동기화 완료 (버전 {}): 노드 {} 개, 대기 중인 링크 대상 {} 개",
+                version, notes.size(), pendingLinks.size());
+    }
+
+    // 노트 추가 또는 링크 변경 반영
+    public synchronized void upsertNote(CategoryNodeDto fileNode) {
+        beginChange();
+        GraphNote note = ensureNote(fileNode);
+        updateLinks(note, fileNode);
+        finishChange();
+    }
+
+    // 노트 제거 반영
+    public synchronized void removeNote(String path) {
+        beginChange();
+        removeNoteInternal(path);
+        finishChange();
+    }
+
+    private void beginChange() {
+        changeVersion = version + 1;
+        changed = false;
+    }
+
+    private void finishChange() {
+        if (changed) {
+            version = changeVersion;
+            updatedAt = Instant.now();
+        }
+    }
+
+    private void record(String type, GraphNote note) {
+        changes.addLast(new GraphChangeDto(changeVersion, type, toClientId(note.id),
+                note.name, note.pageId, null, null));
+        trimChanges();
+    }
+
+    private void record(String type, GraphNote source, GraphNote target) {
+        changes.addLast(new GraphChangeDto(changeVersion, type, null, null, null,
+                toClientId(source.id), toClientId(target.id)));
+        trimChanges();
+    }
+
+    private void trimChanges() {
+        changed = true;
+        while (changes.size() > MAX_RETAINED_CHANGES) {
+            trimmedVersion = changes.removeFirst().getVersion();
+        }
+    }
+
+    // 경로에 해당하는 노드 반환, 없으면 생성하고 이 노트를 기다리던 링크 연결
+    private GraphNote ensureNote(CategoryNodeDto fileNode) {
+        Integer id = idByPath.get(fileNode.getPath());
+        if (id != null) {
+            return notes.get(id);
+        }
+
+        GraphNote note = new GraphNote(nextId++, fileNode.getPath(), fileNode.getName(),
+                stringUtils.toPageId(fileNode.getPath()));
+        idByPath.put(note.path, note.id);
+        notes.put(note.id, note);
+        record(GraphChangeDto.NODE_ADDED, note);
+
+        // 새 노트로 해석될 수 있는 링크만 다시 계산
+        // 대기 중인 링크와, 같은 키로 다른 노트에 해석되어 있던 링크 (색인이 새 노트를 먼저 고를 수 있음)
+        Set<Integer> affectedSources = new LinkedHashSet<>();
+        for (String key : noteIndexService.lookupKeysOf(Paths.get(note.path))) {
+            affectedSources.addAll(pendingLinks.getOrDefault(key, Set.of()));
+            affectedSources.addAll(resolvedLinks.getOrDefault(key, Set.of()));
+        }
+        affectedSources.remove(note.id);
+        for (int sourceId : affectedSources) {
+            GraphNote source = notes.get(sourceId);
+            resolveLinks(source);
+        }
+
+        return note;
+    }
+
+    // 노트의 링크 목록을 바꾸고 다시 해석
+    private void updateLinks(GraphNote note, CategoryNodeDto fileNode) {
+        note.links = fileNode.getLinks();
+        note.linkSnippets = fileNode.getLinkSnippets();
+        resolveLinks(note);
+    }
+
+    // 노트의 링크를 다시 해석하여 바뀐 링크만 추가/제거
+    private void resolveLinks(GraphNote note) {
+        clearLinkKeys(note);
+
+        Set<Integer> targets = new LinkedHashSet<>();
+        Map<Integer, String> snippetByTarget = new HashMap<>();
+        for (String link : note.links) {
+            String linkTarget = toLinkTarget(link);
+            if (linkTarget.isEmpty()) {
+                continue;
+            }
+
+            Optional<Integer> targetId = noteIndexService.resolve(linkTarget).map(idByPath::get);
+            String key = noteIndexService.toLookupKey(linkTarget);
+
+            if (targetId.isEmpty()) {
+                pendingLinks.computeIfAbsent(key, k -> new HashSet<>()).add(note.id);
+                note.pendingKeys.add(key);
+                continue;
+            }
+
+            resolvedLinks.computeIfAbsent(key, k -> new HashSet<>()).add(note.id);
+            note.resolvedKeys.add(key);
+            if (targetId.get() != note.id) {
+                targets.add(targetId.get());
+                snippetByTarget.putIfAbsent(targetId.get(), note.linkSnippets.getOrDefault(link, ""));
+            }
+        }
+        note.snippetByTarget = snippetByTarget;
+
+        for (int targetId : new ArrayList<>(note.outgoing)) {
+            if (!targets.contains(targetId)) {
+                removeEdge(note, notes.get(targetId));
+            }
+        }
+        for (int targetId : targets) {
+            if (!note.outgoing.contains(targetId)) {
+                addEdge(note, notes.get(targetId));
+            }
+        }
+    }
+
+    private void removeNoteInternal(String path) {
+        Integer id = idByPath.get(path);
+        if (id == null) {
+            return;
+        }
+
+        GraphNote note = notes.get(id);
+        clearLinkKeys(note);
+
+        for (int targetId : new ArrayList<>(note.outgoing)) {
+            removeEdge(note, notes.get(targetId));
+        }
+
+        List<GraphNote> sources = new ArrayList<>();
+        for (int sourceId : new ArrayList<>(note.incoming)) {
+            GraphNote source = notes.get(sourceId);
+            removeEdge(source, note);
+            sources.add(source);
+        }
+
+        idByPath.remove(path);
+        notes.remove(id);
+        record(GraphChangeDto.NODE_REMOVED, note);
+
+        // 이 노트를 가리키던 링크는 같은 이름의 다른 노트로 해석되거나 대기 상태가 됨
+        for (GraphNote source : sources) {
+            resolveLinks(source);
+        }
+    }
+
+    private void clearLinkKeys(GraphNote note) {
+        removeSource(pendingLinks, note.pendingKeys, note.id);
+        removeSource(resolvedLinks, note.resolvedKeys, note.id);
+    }
+
+    private void removeSource(Map<String, Set<Integer>> linksByKey, Set<String> keys, int sourceId) {
+        for (String key : keys) {
+            Set<Integer> sources = linksByKey.get(key);
+            if (sources != null) {
+                sources.remove(sourceId);
+                if (sources.isEmpty()) {
+                    linksByKey.remove(key);
                 }
             }
-        } else {
-            // 디렉토리에서 재귀적으로 자식 노드 탐색
-            for (CategoryNodeDto child : node.getChildren()) {
-                collectLinks(child, graphData, pathToIdMap, nameToIdMap, processedLinks);
+        }
+        keys.clear();
+    }
+
+    private void addEdge(GraphNote source, GraphNote target) {
+        source.outgoing.add(target.id);
+        target.incoming.add(source.id);
+
+        // 반대 방향 링크가 이미 있으면 노드 쌍은 이미 연결된 상태
+        if (!target.outgoing.contains(source.id)) {
+            record(GraphChangeDto.LINK_ADDED, source, target);
+        }
+    }
+
+    private void removeEdge(GraphNote source, GraphNote target) {
+        source.outgoing.remove(target.id);
+        target.incoming.remove(source.id);
+
+        if (!target.outgoing.contains(source.id)) {
+            record(GraphChangeDto.LINK_REMOVED, source, target);
+        }
+    }
+
+    // "노트#헤더|별칭" -> "노트"
+    private String toLinkTarget(String link) {
+        int end = link.length();
+        for (char separator : new char[]{'|', '#', '^'}) {
+            int index = link.indexOf(separator);
+            if (index >= 0 && index < end) {
+                end = index;
             }
         }
+        return link.substring(0, end).trim();
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(bytes);
+        }
+        return output.toByteArray();
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private String toClientId(int id) {
+        return "node-" + id;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.PrecacheProgressDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarkdownPrecacheService {
+
+    private final MarkdownService markdownService;
+
+    // 정적 사이트 내보내기처럼 모든 노트를 직접 렌더링하는 실행에서는 끔
+    @Value("${obsidian.precache.enabled:true}")
+    private boolean enabled;
+
+    // 사전 캐싱 작업 스레드 수 (0 이면 CPU 코어 수)
+    @Value("${obsidian.precache.threads:0}")
+    private int threads;
+
+    // 동시에 대기열에 올릴 수 있는 최대 파일 수 (0 이면 스레드 수의 2배)
+    @Value("${obsidian.precache.max-in-flight:0}")
+    private int maxInFlight;
+
+    private ExecutorService workers;
+    private ExecutorService dispatcher;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile PrecacheJob currentJob;
+
+    // 사전 캐싱 작업 하나의 진행 상태
+    private static final class PrecacheJob {
+        private final long generation;
+        private final int total;
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile long finishedAt;
+        private volatile Future<?> dispatchFuture;
+
+        private PrecacheJob(long generation, int total) {
+            this.generation = generation;
+            this.total = total;
+        }
+
+        private boolean isFinished() {
+            return finishedAt != 0;
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (maxInFlight <= 0) {
+            maxInFlight = threads * 2;
+        }
+
+        workers = Executors.newFixedThreadPool(threads, namedDaemonThreads("precache-worker-"));
+        dispatcher = Executors.newSingleThreadExecutor(namedDaemonThreads("precache-dispatcher-"));
+
+        log.info("사전 캐싱 설정: 스레드 {} 개, 최대 대기 {} 개", threads, maxInFlight);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PrecacheJob job = currentJob;
+        if (job != null) {
+            job.cancelled = true;
+        }
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // 모든 마크다운 파일 사전 캐싱 시작
+    // 진행 중인 이전 작업은 취소 (새로고침이 이전 결과를 대체하므로)
+    public synchronized void start(List<Path> markdownFiles) {
+        if (!enabled) {
+            return;
+        }
+        cancelCurrent();
+
+        PrecacheJob job = new PrecacheJob(generation.incrementAndGet(), markdownFiles.size());
+        currentJob = job;
+
+        log.info("마크다운 파일 사전 캐싱 시작 (총 {} 파일, 작업 #{})", job.total, job.generation);
+        job.dispatchFuture = dispatcher.submit(() -> dispatch(job, List.copyOf(markdownFiles)));
+    }
+
+    // 진행 중인 사전 캐싱 취소
+    public synchronized void cancelCurrent() {
+        PrecacheJob job = currentJob;
+        if (job == null || job.isFinished()) {
+            return;
+        }
+
+        job.cancelled = true;
+        Future<?> future = job.dispatchFuture;
+        if (future != null) {
+            future.cancel(true);
+        }
+        log.info("사전 캐싱 작업 #{} 취소 ({}/{} 완료)", job.generation, job.done.get(), job.total);
+    }
+
+    // 사전 캐싱 진행 상태 조회
+    public PrecacheProgressDto getProgress() {
+        PrecacheJob job = currentJob;
+        if (job == null) {
+            return new PrecacheProgressDto(0, "IDLE", 0, 0, 0, 0, 0);
+        }
+
+        long end = job.isFinished() ? job.finishedAt : System.nanoTime();
+        long elapsedMillis = (end - job.startedAt) / 1_000_000;
+        int done = job.done.get();
+        double filesPerSecond = elapsedMillis > 0 ? done * 1000.0 / elapsedMillis : 0;
+
+        String state;
+        if (job.cancelled) {
+            state = "CANCELLED";
+        } else if (job.isFinished()) {
+            state = "COMPLETED";
+        } else {
+            state = "RUNNING";
+        }
+
+        return new PrecacheProgressDto(job.generation, state, job.total, done, job.failed.get(),
+                elapsedMillis, filesPerSecond);
+    }
+
+    // 파일을 작업 스레드에 나눠 주되, 대기 중인 작업 수는 maxInFlight 로 제한
+    private void dispatch(PrecacheJob job, List<Path> markdownFiles) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try {
+            for (Path file : markdownFiles) {
+                if (job.cancelled) {
+                    return;
+                }
+
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        precacheFile(job, file);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            // 남은 작업이 모두 끝날 때까지 대기
+            inFlight.acquire(maxInFlight);
+            job.finishedAt = System.nanoTime();
+
+            PrecacheProgressDto progress = getProgress();
+            log.info("마크다운 파일 사전 캐싱 완료 (작업 #{}). 총 {} 파일 중 {} 성공, {} 실패, {} ms ({} 파일/초)",
+                    job.generation, job.total, job.done.get() - job.failed.get(), job.failed.get(),
+                    progress.getElapsedMillis(), String.format("%.1f", progress.getFilesPerSecond()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!job.isFinished()) {
+                job.finishedAt = System.nanoTime();
+            }
+        }
+    }
+
+    private void precacheFile(PrecacheJob job, Path file) {
+        if (job.cancelled) {
+            return;
+        }
+
+        try {
+            // 파일 내용 읽기
+            String markdownContent = markdownService.readMarkdownFile(file);
+
+            // HTML로 변환하여 캐싱
+            markdownService.convertToHtml(markdownService.contentId(file, markdownContent), markdownContent);
+        } catch (Exception e) {
+            log.warn("파일 사전 캐싱 실패: {}, 오류: {}", file, e.getMessage());
+            job.failed.incrementAndGet();
+        }
+
+        int processed = job.done.incrementAndGet();
+
+        // 진행 상태 로깅 (10% 단위)
+        if (processed % Math.max(1, job.total / 10) == 0 || processed == job.total) {
+            int percentage = (int) (((double) processed / job.total) * 100);
+            log.info("사전 캐싱 진행 중: {}% 완료 ({}/{}), 실패: {}",
+                    percentage, processed, job.total, job.failed.get());
+        }
+    }
+
+    private ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,8 +1,6 @@
 package com.haneolj.portfolio.service;
 
 import com.haneolj.portfolio.util.StringUtils;
-import java.nio.file.Paths;
-import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.commonmark.Extension;
 import org.commonmark.ext.gfm.tables.TableBlock;
@@ -17,14 +15,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -37,23 +39,33 @@ public class MarkdownService {
     private final Parser parser;
     private final HtmlRenderer renderer;
     private final StringUtils stringUtils;
-    private final GitService gitService;
+    private final GitHistoryService gitHistoryService;
     private final TexService texService;
+    private final NoteIndexService noteIndexService;
+    private final RenderStoreService renderStoreService;
+    private final VaultSource vaultSource;
 
-    @Value("${obsidian.repo.study-path}")
-    private String studyPath;
+    // 렌더링 결과가 달라지는 변경을 하면 올려서 저장된 결과를 무효화
+    private static final String RENDERER_VERSION = "2";
 
-    // Obsidian 링크 패턴 ([[링크]])
-    private static final Pattern OBSIDIAN_LINK_PATTERN = Pattern.compile("\\[\\[([^]]+)]]");
+    @Value("${app.version}")
+    private String appVersion;
+
+    // Obsidian 링크 패턴 ([[링크]]), 노트 수집 단계에서도 같은 패턴으로 링크 추출
+    static final Pattern OBSIDIAN_LINK_PATTERN = Pattern.compile("\\[\\[([^]]+)]]");
 
     // 일반 마크다운 링크 패턴 ([텍스트](링크.md))
-    private static final Pattern MARKDOWN_LINK_PATTERN = Pattern.compile("\\[([^]]+)]\\(([^)]+\\.md)\\)");
+    static final Pattern MARKDOWN_LINK_PATTERN = Pattern.compile("\\[([^]]+)]\\(([^)]+\\.md)\\)");
 
     @Autowired
-    public MarkdownService(GitService gitService, StringUtils stringUtils, TexService texService) {
+    public MarkdownService(GitHistoryService gitHistoryService, StringUtils stringUtils, TexService texService,
+            NoteIndexService noteIndexService, RenderStoreService renderStoreService, VaultSource vaultSource) {
         this.stringUtils = stringUtils;
-        this.gitService = gitService;
+        this.gitHistoryService = gitHistoryService;
         this.texService = texService;
+        this.noteIndexService = noteIndexService;
+        this.renderStoreService = renderStoreService;
+        this.vaultSource = vaultSource;
 
         // 확장 기능 추가 (테이블, 체크박스 등)
         List<Extension> extensions = Arrays.asList(
@@ -72,34 +84,54 @@ public class MarkdownService {
     }
 
 
-    // 마크다운 파일 읽기
-    @Cacheable(value = "markdownHtmlCache", key = "#filePath.toString()")
+    // 마크다운 파일 읽기 (작업 트리 또는 Git 객체 DB)
+    @Cacheable(value = "markdownSourceCache", key = "#filePath.toString()")
     public String readMarkdownFile(Path filePath) throws IOException {
-        if (!Files.exists(filePath)) {
+        if (vaultSource.stat(filePath).isEmpty()) {
             throw new IOException("파일이 존재하지 않습니다: " + filePath);
         }
 
-        return Files.readString(filePath, StandardCharsets.UTF_8);
+        return vaultSource.read(filePath);
+    }
+
+    // 마크다운 내용의 식별자 (Git blob ID, Git 객체 DB 소스는 트리에 기록된 ID 를 그대로 사용)
+    public String contentId(Path filePath, String markdown) {
+        return vaultSource.contentId(filePath, markdown);
     }
 
     // 마크다운 파일을 HTML 파일로 변경
-    @Cacheable(value = "markdownHtmlCache", key = "'html-' + #markdown.hashCode()")
-    public String convertToHtml(String markdown) {
+    // 내용 식별자로 캐싱하므로 해시 충돌로 다른 문서의 HTML 이 반환되지 않음
+    // 식별자는 호출하는 쪽에서 한 번만 계산해 전달 (캐시 키와 렌더 저장소 키에 함께 사용)
+    // 힙 캐시에 없으면 디스크 렌더 저장소를 먼저 확인
+    @Cacheable(value = "markdownRenderCache", key = "#contentId")
+    public String convertToHtml(String contentId, String markdown) {
+        String storeKey = RENDERER_VERSION + "-" + appVersion + ":" + contentId;
+
+        String storedHtml = loadStoredRender(storeKey);
+        if (storedHtml != null) {
+            return storedHtml;
+        }
+
         try {
-            // TeX 표현식 임시 보호
-            markdown = texService.protectTexExpressions(markdown);
+            // 렌더링 중 해석한 링크 (<링크 대상, URL>), 저장된 결과 검증에 사용
+            Map<String, String> resolvedLinks = new LinkedHashMap<>();
+
+            // TeX 표현식 임시 보호 (렌더링마다 별도 컨텍스트 사용)
+            TexService.TexContext texContext = texService.protectTexExpressions(markdown);
+            markdown = texContext.getMarkdown();
 
             // CommonMark로 HTML 변환 전에 Obsidian 링크 처리
-            markdown = processObsidianLinks(markdown);
-            markdown = processMarkdownLinks(markdown);
+            markdown = processObsidianLinks(markdown, resolvedLinks);
+            markdown = processMarkdownLinks(markdown, resolvedLinks);
 
             // CommonMark를 사용하여 HTML로 변환
             Node document = parser.parse(markdown);
             String html = renderer.render(document);
 
             // TeX 표현식 복원
-            html = texService.restoreTexExpressions(html);
+            html = texService.restoreTexExpressions(html, texContext);
 
+            saveRender(storeKey, resolvedLinks, html);
             return html;
         } catch (Exception e) {
             log.error("마크다운을 HTML로 변환 중 오류 발생: {}", e.getMessage(), e);
@@ -108,14 +140,61 @@ public class MarkdownService {
         }
     }
 
+    // 렌더 저장소에서 HTML 조회
+    // 저장 당시 해석한 링크가 지금도 같은 URL 로 해석될 때만 사용 (노트 이동/삭제 시 다시 렌더링)
+    private String loadStoredRender(String storeKey) {
+        byte[] stored = renderStoreService.get(storeKey);
+        if (stored == null) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(stored))) {
+            int linkCount = in.readInt();
+            for (int i = 0; i < linkCount; i++) {
+                String linkTarget = in.readUTF();
+                String url = in.readUTF();
+                if (!url.equals(getFileUrl(linkTarget))) {
+                    return null;
+                }
+            }
+
+            int htmlOffset = stored.length - in.available();
+            return new String(stored, htmlOffset, stored.length - htmlOffset, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("저장된 렌더링 결과를 읽을 수 없습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 렌더링 결과를 해석한 링크 목록과 함께 저장
+    private void saveRender(String storeKey, Map<String, String> resolvedLinks, String html) {
+        try {
+            byte[] htmlBytes = html.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(htmlBytes.length + 64 * resolvedLinks.size() + 4);
+
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(resolvedLinks.size());
+                for (Map.Entry<String, String> link : resolvedLinks.entrySet()) {
+                    out.writeUTF(link.getKey());
+                    out.writeUTF(link.getValue());
+                }
+                out.write(htmlBytes);
+            }
+
+            renderStoreService.put(storeKey, bytes.toByteArray());
+        } catch (IOException e) {
+            log.warn("렌더링 결과를 저장할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
     // 옵시디언의 Link 형식 처리
-    private String processObsidianLinks(String markdown) {
+    private String processObsidianLinks(String markdown, Map<String, String> resolvedLinks) {
         StringBuilder result = new StringBuilder();
         Matcher matcher = OBSIDIAN_LINK_PATTERN.matcher(markdown);
 
         while (matcher.find()) {
             String linkContent = matcher.group(1);
-            String replacement = createWikiLinkReplacement(linkContent);
+            String replacement = createWikiLinkReplacement(linkContent, resolvedLinks);
             matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
         }
 
@@ -125,14 +204,14 @@ public class MarkdownService {
 
 
     // [텍스트](링크) 형식의 링크 처리
-    private String processMarkdownLinks(String markdown) {
+    private String processMarkdownLinks(String markdown, Map<String, String> resolvedLinks) {
         StringBuilder result = new StringBuilder();
         Matcher matcher = MARKDOWN_LINK_PATTERN.matcher(markdown);
 
         while (matcher.find()) {
             String linkText = matcher.group(1);
             String linkTarget = matcher.group(2);
-            String replacement = "[" + linkText + "](" + getFileUrl(linkTarget.replace(".md", "")) + ")";
+            String replacement = "[" + linkText + "](" + resolveFileUrl(linkTarget.replace(".md", ""), resolvedLinks) + ")";
             matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
         }
 
@@ -141,7 +220,7 @@ public class MarkdownService {
     }
 
     // 링크 변경
-    private String createWikiLinkReplacement(String linkContent) {
+    private String createWikiLinkReplacement(String linkContent, Map<String, String> resolvedLinks) {
         // 기본 링크 텍스트와 대상
         String linkText = linkContent;
         String linkTarget = linkContent;
@@ -166,7 +245,7 @@ public class MarkdownService {
                 url = "#" + headerToId(headerTarget);
             } else {
                 // 다른 파일의 헤더 링크 - 여기서 파일 경로와 헤더를 분리해서 처리
-                String fileUrl = getFileUrl(fileName);
+                String fileUrl = resolveFileUrl(fileName, resolvedLinks);
                 url = fileUrl + "#" + headerToId(headerTarget);
             }
         }
@@ -180,12 +259,12 @@ public class MarkdownService {
             if (fileName.isEmpty()) {
                 url = "#" + blockRef;
             } else {
-                url = getFileUrl(fileName) + "#^" + blockRef;
+                url = resolveFileUrl(fileName, resolvedLinks) + "#^" + blockRef;
             }
         }
         // 일반 파일 링크
         else {
-            url = getFileUrl(linkTarget);
+            url = resolveFileUrl(linkTarget, resolvedLinks);
         }
 
         // 클래스 속성 없이 반환
@@ -200,40 +279,28 @@ public class MarkdownService {
                 .replaceAll("-+", "-");
     }
 
+    // 링크 URL 을 만들고 해석 결과를 기록
+    private String resolveFileUrl(String fileName, Map<String, String> resolvedLinks) {
+        String url = getFileUrl(fileName);
+        resolvedLinks.put(fileName, url);
+        return url;
+    }
+
     // 파일 이름으로 URL 생성
+    // 노트 색인에서 조회하므로 파일 시스템에 접근하지 않음
     private String getFileUrl(String fileName) {
-        try {
-            // 현재 상대 경로에서 실제 파일을 찾아야 함
-            String repoPath = gitService.ensureRepository();
-            Path studyRootPath = Paths.get(repoPath, studyPath);
-
-            // 1. 전체 폴더 구조에서 해당 파일명 찾기
-            final String fileNameWithExtension = fileName + ".md";
-            Optional<Path> foundPath = Files.walk(studyRootPath)
-                    .filter(p -> !Files.isDirectory(p))
-                    .filter(p -> p.getFileName().toString().equals(fileNameWithExtension))
-                    .findFirst();
-
-            if (foundPath.isPresent()) {
-                // 2. 찾은 전체 경로를 인코딩
-                String fullPath = foundPath.get().toString();
-                return "/study/view/" + stringUtils.encodeBase64Url(fullPath);
-            }
-
-            // 못 찾은 경우 기본 경로 사용
-            return "/study/view/" + stringUtils.encodeBase64Url(fileName + ".md");
-        } catch (Exception e) {
-            log.error("파일 URL 생성 중 오류: {}", e.getMessage());
-            return "/study/view/" + stringUtils.encodeBase64Url(fileName + ".md");
-        }
+        return noteIndexService.resolve(fileName)
+                .map(fullPath -> "/study/view/" + stringUtils.toPageId(fullPath))
+                // 못 찾은 경우 기본 경로 사용
+                .orElseGet(() -> "/study/view/" + stringUtils.toPageId(fileName + ".md"));
     }
 
     // 파일의 마지막 수정 일자 찾기
     public String getLastModifiedDate(Path filePath) {
         try {
-            LocalDateTime lastModified = LocalDateTime.ofInstant(
-                    Files.getLastModifiedTime(filePath).toInstant(),
-                    ZoneId.systemDefault());
+            VaultSource.Entry entry = vaultSource.stat(filePath)
+                    .orElseThrow(() -> new IOException("파일이 존재하지 않습니다: " + filePath));
+            LocalDateTime lastModified = LocalDateTime.ofInstant(entry.lastModified(), ZoneId.systemDefault());
 
             return lastModified.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
         } catch (IOException e) {
@@ -244,7 +311,7 @@ public class MarkdownService {
 
     public String getFileCreationDate(Path filePath) {
         try {
-            LocalDateTime createdAt = gitService.getFileCreationDate(filePath);
+            LocalDateTime createdAt = gitHistoryService.getFileCreationDate(filePath);
             return createdAt.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
         } catch (Exception e) {
             log.warn("파일 생성 시간을 가져올 수 없습니다: {}", e.getMessage());
@@ -0,0 +1,190 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteIndexService {
+
+    private static final String MARKDOWN_EXTENSION = ".md";
+
+    private final StringUtils stringUtils;
+
+    // <파일 이름 또는 폴더 포함 경로, 파일 전체 경로 목록>
+    private volatile Map<String, NavigableSet<String>> exactIndex = new ConcurrentHashMap<>();
+
+    // <소문자로 변환한 키, 파일 전체 경로 목록>
+    private volatile Map<String, NavigableSet<String>> lowerCaseIndex = new ConcurrentHashMap<>();
+
+    // <노트 페이지 식별자, 파일 전체 경로> (/study/view/<식별자> 요청 처리)
+    private volatile Map<String, String> pageIndex = new ConcurrentHashMap<>();
+
+    private volatile Path studyRootPath;
+
+    // 스터디 디렉토리 스캔 결과로 색인 전체 재구성
+    public void rebuild(Path studyRootPath, Collection<Path> markdownFiles) {
+        Map<String, NavigableSet<String>> newExactIndex = new ConcurrentHashMap<>();
+        Map<String, NavigableSet<String>> newLowerCaseIndex = new ConcurrentHashMap<>();
+        Map<String, String> newPageIndex = new ConcurrentHashMap<>();
+
+        for (Path file : markdownFiles) {
+            addEntries(newExactIndex, newLowerCaseIndex, studyRootPath, file);
+            newPageIndex.put(stringUtils.toPageId(file.toString()), file.toString());
+        }
+
+        // 완성된 색인으로 교체
+        this.studyRootPath = studyRootPath;
+        this.exactIndex = newExactIndex;
+        this.lowerCaseIndex = newLowerCaseIndex;
+        this.pageIndex = newPageIndex;
+
+        log.info("노트 색인 재구성 완료: 파일 {} 개, 키 {} 개", markdownFiles.size(), newExactIndex.size());
+    }
+
+    // 파일 하나를 색인에 추가 (이미 있으면 변화 없음)
+    public void register(Path file) {
+        if (studyRootPath == null) {
+            return;
+        }
+        addEntries(exactIndex, lowerCaseIndex, studyRootPath, file);
+        pageIndex.put(stringUtils.toPageId(file.toString()), file.toString());
+    }
+
+    // 파일 하나를 색인에서 제거
+    public void unregister(Path file) {
+        if (studyRootPath == null) {
+            return;
+        }
+
+        String fullPath = file.toString();
+        for (String key : lookupKeys(studyRootPath, file)) {
+            removeEntry(exactIndex, key, fullPath);
+            removeEntry(lowerCaseIndex, key.toLowerCase(Locale.ROOT), fullPath);
+        }
+        pageIndex.remove(stringUtils.toPageId(fullPath), fullPath);
+    }
+
+    // 노트 페이지 식별자로 파일 전체 경로 조회
+    public Optional<String> findByPageId(String pageId) {
+        if (pageId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(pageIndex.get(pageId));
+    }
+
+    // 링크 대상("파일명", "폴더/파일명")으로 파일 전체 경로 조회
+    public Optional<String> resolve(String linkTarget) {
+        if (linkTarget == null) {
+            return Optional.empty();
+        }
+
+        String key = normalizeLinkTarget(linkTarget);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 1. 대소문자까지 일치하는 파일
+        NavigableSet<String> candidates = exactIndex.get(key);
+        if (candidates == null || candidates.isEmpty()) {
+            // 2. 대소문자 무시하고 일치하는 파일
+            candidates = lowerCaseIndex.get(key.toLowerCase(Locale.ROOT));
+        }
+
+        if (candidates == null || candidates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(candidates.first());
+        } catch (NoSuchElementException e) {
+            // 조회 도중 다른 스레드가 마지막 항목을 제거한 경우
+            return Optional.empty();
+        }
+    }
+
+    // 링크 대상을 대소문자 무시 비교용 키로 변환 ("/A/Note.md" -> "a/note")
+    public String toLookupKey(String linkTarget) {
+        return normalizeLinkTarget(linkTarget).toLowerCase(Locale.ROOT);
+    }
+
+    // 파일이 색인에 등록되는 대소문자 무시 키 목록
+    public List<String> lookupKeysOf(Path file) {
+        Path rootPath = studyRootPath;
+        if (rootPath == null) {
+            return List.of();
+        }
+
+        List<String> keys = lookupKeys(rootPath, file);
+        keys.replaceAll(key -> key.toLowerCase(Locale.ROOT));
+        return keys;
+    }
+
+    private void addEntries(Map<String, NavigableSet<String>> exact, Map<String, NavigableSet<String>> lowerCase,
+            Path rootPath, Path file) {
+        String fullPath = file.toString();
+        for (String key : lookupKeys(rootPath, file)) {
+            exact.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(fullPath);
+            lowerCase.computeIfAbsent(key.toLowerCase(Locale.ROOT), k -> new ConcurrentSkipListSet<>()).add(fullPath);
+        }
+    }
+
+    private void removeEntry(Map<String, NavigableSet<String>> index, String key, String fullPath) {
+        index.computeIfPresent(key, (k, paths) -> {
+            paths.remove(fullPath);
+            return paths.isEmpty() ? null : paths;
+        });
+    }
+
+    // "A/B/Note.md" -> ["Note", "B/Note", "A/B/Note"]
+    private List<String> lookupKeys(Path rootPath, Path file) {
+        List<String> keys = new ArrayList<>();
+
+        String relativePath = file.startsWith(rootPath)
+                ? rootPath.relativize(file).toString()
+                : file.getFileName().toString();
+        relativePath = relativePath.replace('\\', '/');
+
+        if (relativePath.endsWith(MARKDOWN_EXTENSION)) {
+            relativePath = relativePath.substring(0, relativePath.length() - MARKDOWN_EXTENSION.length());
+        }
+
+        // 뒤에서부터 폴더를 하나씩 붙여가며 키 생성
+        int index = relativePath.length();
+        while (index > 0) {
+            index = relativePath.lastIndexOf('/', index - 1);
+            keys.add(relativePath.substring(index + 1));
+        }
+
+        return keys;
+    }
+
+    private String normalizeLinkTarget(String linkTarget) {
+        String key = linkTarget.trim().replace('\\', '/');
+
+        while (key.startsWith("/")) {
+            key = key.substring(1);
+        }
+
+        if (key.endsWith(MARKDOWN_EXTENSION)) {
+            key = key.substring(0, key.length() - MARKDOWN_EXTENSION.length());
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,112 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.NoteRecordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 노트 수집 단계
+// 파일을 한 번 읽어 링크, 헤더, 제목, 단어 수, 내용 식별자를 한 번에 추출하고 원문 캐시도 채움
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteIngestionService {
+
+    // 렌더러와 같은 링크 패턴 (그룹 1: [[링크]], 그룹 3: [텍스트](링크.md))
+    private static final Pattern LINK_PATTERN = Pattern.compile(
+            MarkdownService.OBSIDIAN_LINK_PATTERN.pattern() + "|" + MarkdownService.MARKDOWN_LINK_PATTERN.pattern());
+
+    private static final Pattern HEADING_PATTERN = Pattern.compile("^#{1,6}\\s+(.+?)\\s*#*$", Pattern.MULTILINE);
+
+    // [[대상|표시 텍스트]] 또는 [[대상]] 에서 표시할 텍스트
+    private static final Pattern WIKI_LINK_TEXT_PATTERN = Pattern.compile("\\[\\[(?:[^]|]*\\|)?([^]]*)]]");
+
+    // 백링크 문맥으로 링크 앞뒤에 남길 최대 글자 수
+    private static final int SNIPPET_CONTEXT_CHARS = 60;
+
+    private static final String SOURCE_CACHE = "markdownSourceCache";
+
+    private final VaultSource vaultSource;
+    private final CacheManager cacheManager;
+
+    // 노트 파일을 읽어 분석 (작업 트리 또는 Git 객체 DB)
+    public NoteRecordDto ingest(Path file) throws IOException {
+        String content = vaultSource.read(file);
+
+        // 렌더링할 때 다시 읽지 않도록 원문 캐시에 저장 (readMarkdownFile 과 같은 키)
+        Cache sourceCache = cacheManager.getCache(SOURCE_CACHE);
+        if (sourceCache != null) {
+            sourceCache.put(file.toString(), content);
+        }
+
+        List<String> links = new ArrayList<>();
+        Map<String, String> linkSnippets = new HashMap<>();
+        Matcher linkMatcher = LINK_PATTERN.matcher(content);
+        while (linkMatcher.find()) {
+            String link = linkMatcher.group(1) != null ? linkMatcher.group(1) : linkMatcher.group(3);
+            links.add(link);
+            if (!linkSnippets.containsKey(link)) {
+                linkSnippets.put(link, extractSnippet(content, linkMatcher.start(), linkMatcher.end()));
+            }
+        }
+
+        List<String> headings = new ArrayList<>();
+        Matcher headingMatcher = HEADING_PATTERN.matcher(content);
+        while (headingMatcher.find()) {
+            headings.add(headingMatcher.group(1));
+        }
+
+        return new NoteRecordDto(file.toString(), content, vaultSource.contentId(file, content), toTitle(file),
+                links, linkSnippets, headings, countWords(content));
+    }
+
+    // "1. 검색 엔진.md" -> "검색 엔진"
+    public String toTitle(Path file) {
+        String name = file.getFileName().toString().replaceAll("^\\d+\\.\\s*", "");
+        return name.endsWith(".md") ? name.substring(0, name.length() - 3) : name;
+    }
+
+    // 링크가 있는 줄에서 링크 앞뒤 문맥을 잘라 반환 (위키 링크는 표시 텍스트로 치환)
+    private String extractSnippet(String content, int linkStart, int linkEnd) {
+        int lineStart = content.lastIndexOf('\n', linkStart - 1) + 1;
+        int lineEnd = content.indexOf('\n', linkEnd);
+        if (lineEnd < 0) {
+            lineEnd = content.length();
+        }
+
+        int from = Math.max(lineStart, linkStart - SNIPPET_CONTEXT_CHARS);
+        int to = Math.min(lineEnd, linkEnd + SNIPPET_CONTEXT_CHARS);
+
+        String snippet = WIKI_LINK_TEXT_PATTERN.matcher(content.substring(from, to)).replaceAll("$1")
+                .replaceAll("\\s+", " ")
+                .trim();
+
+        return (from > lineStart ? "… " : "") + snippet + (to < lineEnd ? " …" : "");
+    }
+
+    // 공백으로 구분한 단어 수
+    private int countWords(String content) {
+        int count = 0;
+        boolean inWord = false;
+
+        for (int i = 0; i < content.length(); i++) {
+            boolean whitespace = Character.isWhitespace(content.charAt(i));
+            if (!whitespace && !inWord) {
+                count++;
+            }
+            inWord = !whitespace;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,260 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.RenderStoreStatsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 렌더링 결과를 메모리 맵 세그먼트 파일에 저장 (힙 밖, 재시작 후에도 유지)
+//
+// 파일 구조
+//   헤더: magic(4) | 포맷 버전(4) | 기록된 끝 위치(8)
+//   레코드: 레코드 길이(4) | 키 길이(2) | 키(UTF-8) | 값 길이(4) | 값
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RenderStoreService {
+
+    private static final int MAGIC = 0x484E5253; // "HNRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int END_POSITION_OFFSET = 8;
+    private static final String SEGMENT_FILE_NAME = "renders.seg";
+
+    private final RepositoryStateService repositoryStateService;
+    private final GitService gitService;
+
+    @Value("${render-store.enabled:true}")
+    private boolean enabled;
+
+    // 비어 있으면 로컬 저장소의 Git 디렉토리 아래 render-store 사용
+    @Value("${render-store.directory:}")
+    private String directory;
+
+    @Value("${render-store.max-bytes:268435456}")
+    private long maxBytes;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // <키, 값 위치> (힙에는 위치만 보관)
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long resetCount;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int endPosition;
+    private volatile boolean opened;
+    private volatile boolean unavailable;
+
+    private record Slot(int offset, int length) {
+    }
+
+    // 저장된 값 조회 (없으면 null)
+    public byte[] get(String key) {
+        if (!ensureOpened()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            Slot slot = slots.get(key);
+            if (slot == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+
+            byte[] value = new byte[slot.length()];
+            buffer.get(slot.offset(), value);
+            hitCount.incrementAndGet();
+            return value;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 값 저장 (같은 키가 있으면 새 값으로 대체)
+    public void put(String key, byte[] value) {
+        if (!ensureOpened()) {
+            return;
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > 0xFFFF) {
+            return;
+        }
+
+        int recordLength = 2 + keyBytes.length + 4 + value.length;
+        long required = 4L + recordLength;
+
+        lock.writeLock().lock();
+        try {
+            if (HEADER_BYTES + required > buffer.capacity()) {
+                log.debug("렌더 저장소보다 큰 항목은 저장하지 않음: {} ({} bytes)", key, value.length);
+                return;
+            }
+
+            // 세그먼트가 가득 차면 비우고 다시 채움
+            if (endPosition + required > buffer.capacity()) {
+                log.info("렌더 저장소가 가득 차서 초기화합니다 (항목 {} 개)", slots.size());
+                reset();
+                resetCount++;
+            }
+
+            int position = endPosition;
+            buffer.putInt(position, recordLength);
+            buffer.putShort(position + 4, (short) keyBytes.length);
+            buffer.put(position + 6, keyBytes);
+            int valueOffset = position + 6 + keyBytes.length;
+            buffer.putInt(valueOffset, value.length);
+            buffer.put(valueOffset + 4, value);
+
+            endPosition = (int) (position + required);
+            buffer.putLong(END_POSITION_OFFSET, endPosition);
+            slots.put(key, new Slot(valueOffset + 4, value.length));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 렌더 저장소 통계
+    public RenderStoreStatsDto getStats() {
+        if (!opened) {
+            return new RenderStoreStatsDto(false, 0, 0, 0, hitCount.get(), missCount.get(), resetCount);
+        }
+
+        lock.readLock().lock();
+        try {
+            return new RenderStoreStatsDto(true, slots.size(), endPosition, buffer.capacity(),
+                    hitCount.get(), missCount.get(), resetCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (!opened) {
+                return;
+            }
+            buffer.force();
+            channel.close();
+            opened = false;
+            unavailable = true;
+        } catch (IOException e) {
+            log.warn("렌더 저장소를 닫는 중 오류 발생: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 처음 사용할 때 세그먼트 파일을 열고 색인 복원
+    // 저장소 디렉토리는 clone 이후에만 존재하므로 지연 초기화
+    private boolean ensureOpened() {
+        if (opened) {
+            return true;
+        }
+        if (!enabled || unavailable) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!opened && !unavailable) {
+                open();
+            }
+            return opened;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() {
+        try {
+            // 저장소가 준비된 뒤 Git 디렉토리 사용 (bare clone 이면 저장소 경로 자체)
+            repositoryStateService.getLocalPath();
+            Path storeDirectory = directory == null || directory.isBlank()
+                    ? gitService.getGitDirectory().resolve("render-store")
+                    : Paths.get(directory);
+            Files.createDirectories(storeDirectory);
+
+            int capacity = (int) Math.min(maxBytes, Integer.MAX_VALUE - 8);
+            channel = FileChannel.open(storeDirectory.resolve(SEGMENT_FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+            if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == FORMAT_VERSION) {
+                restoreSlots();
+            } else {
+                reset();
+            }
+
+            opened = true;
+            log.info("렌더 저장소 열기: {} (항목 {} 개, {} / {} bytes)",
+                    storeDirectory, slots.size(), endPosition, capacity);
+        } catch (Exception e) {
+            unavailable = true;
+            log.warn("렌더 저장소를 열 수 없어 비활성화합니다: {}", e.getMessage());
+        }
+    }
+
+    // 기록된 레코드를 훑어 키 -> 위치 색인 복원 (같은 키는 나중 레코드가 우선)
+    private void restoreSlots() {
+        long recordedEnd = buffer.getLong(END_POSITION_OFFSET);
+        int end = (int) Math.min(Math.max(recordedEnd, HEADER_BYTES), buffer.capacity());
+
+        int position = HEADER_BYTES;
+        while (position + 4 <= end) {
+            int recordLength = buffer.getInt(position);
+            if (recordLength < 6 || position + 4L + recordLength > end) {
+                break;
+            }
+
+            int keyLength = buffer.getShort(position + 4) & 0xFFFF;
+            int valueOffset = position + 6 + keyLength;
+            if (valueOffset + 4 > end) {
+                break;
+            }
+
+            int valueLength = buffer.getInt(valueOffset);
+            if (recordLength != 2 + keyLength + 4 + valueLength) {
+                break;
+            }
+
+            byte[] keyBytes = new byte[keyLength];
+            buffer.get(position + 6, keyBytes);
+            slots.put(new String(keyBytes, StandardCharsets.UTF_8), new Slot(valueOffset + 4, valueLength));
+
+            position += 4 + recordLength;
+        }
+
+        endPosition = position;
+    }
+
+    private void reset() {
+        slots.clear();
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        endPosition = HEADER_BYTES;
+        buffer.putLong(END_POSITION_OFFSET, endPosition);
+    }
+}
@@ -0,0 +1,153 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.RepositorySyncStatusDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RepositoryStateService {
+
+    private final GitService gitService;
+
+    // 읽기 경로에서 사용하는 상태 (메모리에서 바로 응답)
+    private volatile String localPath;
+    private volatile String headCommit;
+    private volatile String previousHeadCommit;
+
+    // 한 번의 동기화 전후 HEAD 커밋
+    public record HeadChange(String before, String after) {
+        public boolean changed() {
+            return !Objects.equals(before, after);
+        }
+    }
+
+    // 동기화 통계
+    // 동기화 잠금(this)은 pull 하는 동안 계속 잡혀 있으므로 통계는 별도 잠금으로 보호
+    private final Object statsLock = new Object();
+    private volatile String lastSyncTrigger;
+    private volatile LocalDateTime lastSyncAt;
+    private volatile long lastSyncDurationMillis = -1;
+    private volatile String lastError;
+    private long syncCount;
+    private long failureCount;
+    private long totalSyncMillis;
+
+    // 로컬 저장소 경로 반환
+    // 최초 1회만 저장소를 준비하고, 이후에는 네트워크 접근 없이 메모리 값 반환
+    public String getLocalPath() {
+        String path = localPath;
+        if (path != null) {
+            return path;
+        }
+
+        synchronized (this) {
+            if (localPath == null) {
+                initialize();
+            }
+            return localPath;
+        }
+    }
+
+    // 현재 HEAD 커밋 반환
+    public String getHeadCommit() {
+        getLocalPath();
+        return headCommit;
+    }
+
+    // 직전 동기화 이전의 HEAD 커밋 반환
+    public String getPreviousHeadCommit() {
+        return previousHeadCommit;
+    }
+
+    // 원격 저장소와 동기화 (웹훅, 주기적 폴링, /refresh 에서만 호출)
+    // HEAD 가 바뀌었으면 true 반환
+    public synchronized boolean sync(String trigger) {
+        long startedAt = System.nanoTime();
+        String beforeHead = headCommit;
+
+        try {
+            localPath = gitService.ensureRepository();
+            String afterHead = gitService.resolveHeadCommit();
+
+            previousHeadCommit = beforeHead;
+            headCommit = afterHead;
+            lastError = null;
+
+            boolean changed = !Objects.equals(beforeHead, afterHead);
+            long elapsed = recordSync(trigger, startedAt, false);
+            log.info("저장소 동기화 완료 ({}): {} ms, HEAD {} -> {}",
+                    trigger, elapsed, abbreviate(beforeHead), abbreviate(afterHead));
+
+            return changed;
+        } catch (RuntimeException e) {
+            lastError = e.getMessage();
+            long elapsed = recordSync(trigger, startedAt, true);
+            log.error("저장소 동기화 실패 ({}): {} ms, 오류: {}", trigger, elapsed, e.getMessage());
+            throw e;
+        }
+    }
+
+    // 원격 저장소와 동기화하고 동기화 전후 HEAD 반환
+    // 다른 동기화와 섞이지 않도록 한 잠금 안에서 기록하므로 두 커밋의 차이가 이번 pull 의 변경과 같음
+    // 아직 저장소를 준비한 적이 없으면 이전 HEAD 는 null
+    public synchronized HeadChange syncHeads(String trigger) {
+        String before = headCommit;
+        sync(trigger);
+        return new HeadChange(before, headCommit);
+    }
+
+    // 동기화 상태 조회 (진행 중인 동기화를 기다리지 않음)
+    public RepositorySyncStatusDto getSyncStatus() {
+        synchronized (statsLock) {
+            long average = syncCount == 0 ? -1 : totalSyncMillis / syncCount;
+            return new RepositorySyncStatusDto(headCommit, previousHeadCommit, lastSyncTrigger, lastSyncAt,
+                    lastSyncDurationMillis, average, syncCount, failureCount, lastError);
+        }
+    }
+
+    // 최초 접근 시 저장소 준비
+    // 원격 저장소에 접근할 수 없어도 로컬 저장소가 있으면 그대로 사용
+    private void initialize() {
+        try {
+            sync("initial");
+        } catch (RuntimeException e) {
+            if (!gitService.isRepositoryAvailable()) {
+                throw e;
+            }
+
+            log.warn("초기 동기화 실패, 로컬 저장소를 그대로 사용합니다: {}", e.getMessage());
+            localPath = gitService.getLocalRepositoryPath();
+            headCommit = gitService.resolveHeadCommit();
+        }
+    }
+
+    private long recordSync(String trigger, long startedAt, boolean failed) {
+        long elapsed = (System.nanoTime() - startedAt) / 1_000_000;
+
+        synchronized (statsLock) {
+            lastSyncTrigger = trigger;
+            lastSyncAt = LocalDateTime.now();
+            lastSyncDurationMillis = elapsed;
+            syncCount++;
+            totalSyncMillis += elapsed;
+            if (failed) {
+                failureCount++;
+            }
+        }
+
+        return elapsed;
+    }
+
+    private String abbreviate(String commitId) {
+        if (commitId == null) {
+            return "없음";
+        }
+        return commitId.length() > 7 ? commitId.substring(0, 7) : commitId;
+    }
+}
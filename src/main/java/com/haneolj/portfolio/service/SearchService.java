@@ -0,0 +1,404 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.NoteRecordDto;
+import com.haneolj.portfolio.dto.SearchResultDto;
+import com.haneolj.portfolio.dto.SearchResultsDto;
+import com.haneolj.portfolio.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 노트 전문 검색
+// 제목/헤더/본문을 단어(영문, 숫자) 또는 2글자 단위(한글 등)로 나눈 역색인과 BM25 점수 사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드별 가중치 (단어 빈도에 곱함)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int HEADING_WEIGHT = 2;
+
+    public static final int MAX_RESULTS = 50;
+
+    // 스니펫으로 보여줄 일치 위치 앞뒤 글자 수
+    private static final int SNIPPET_RADIUS = 80;
+
+    // 스니펫에서 지울 마크다운 기호
+    private static final Pattern MARKUP_PATTERN = Pattern.compile("]\\([^)]*\\)|\\[\\[|]]|!?\\[|[#*_`>|~]+");
+
+    private final MarkdownService markdownService;
+    private final StringUtils stringUtils;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // <단어, 단어가 나온 문서와 빈도>
+    private final Map<String, Postings> index = new HashMap<>();
+
+    // 문서 ID 위치에 문서 저장 (제거된 자리는 null, 다음 추가 때 재사용)
+    private final List<SearchDocument> documents = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    // <파일 경로, 문서 ID>
+    private final Map<String, Integer> idByPath = new HashMap<>();
+
+    private long totalLength;
+
+    private record SearchDocument(String path, String name, String pageId, String[] terms, int length) {
+    }
+
+    // 색인 전 분석 결과 (잠금 없이 병렬로 생성)
+    private record AnalyzedDocument(String path, String name, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    // 한 단어의 포스팅 목록 (순서 없음, 제거 시 마지막 항목으로 덮어씀)
+    private static final class Postings {
+        private int[] documentIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int documentId, int frequency) {
+            if (size == documentIds.length) {
+                documentIds = Arrays.copyOf(documentIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documentIds[size] = documentId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private void remove(int documentId) {
+            for (int i = 0; i < size; i++) {
+                if (documentIds[i] == documentId) {
+                    size--;
+                    documentIds[i] = documentIds[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    // 수집 단계에서 만든 노트 기록으로 색인 전체 재구성
+    // 단어 분석은 병렬로 하고, 색인 교체 동안만 쓰기 잠금
+    public void rebuild(Collection<NoteRecordDto> records) {
+        long startTime = System.currentTimeMillis();
+
+        List<AnalyzedDocument> analyzed = records.parallelStream()
+                .map(this::analyze)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            documents.clear();
+            freeIds.clear();
+            idByPath.clear();
+            totalLength = 0;
+
+            analyzed.forEach(this::addDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("검색 색인 재구성 완료: 문서 {} 개, 단어 {} 개, {}ms",
+                analyzed.size(), index.size(), System.currentTimeMillis() - startTime);
+    }
+
+    // 노트 하나를 다시 색인 (없던 노트면 추가)
+    public void update(NoteRecordDto record) {
+        AnalyzedDocument document = analyze(record);
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.path());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 파일 하나를 색인에서 제거
+    public void remove(Path file) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(file.toString());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어로 문서 검색 (점수 높은 순으로 최대 limit 개)
+    public SearchResultsDto search(String query, int limit) {
+        long startTime = System.nanoTime();
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_RESULTS));
+
+        Set<String> queryTerms = new LinkedHashSet<>();
+        tokenize(query, queryTerms::add);
+        if (queryTerms.isEmpty()) {
+            return new SearchResultsDto(query, 0, 0, List.of());
+        }
+
+        List<SearchDocument> topDocuments = new ArrayList<>();
+        List<Double> topScores = new ArrayList<>();
+        int total;
+
+        lock.readLock().lock();
+        try {
+            int documentCount = idByPath.size();
+            double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+
+            double[] scores = new double[documents.size()];
+            int[] matchedTerms = new int[documents.size()];
+            List<Integer> touched = new ArrayList<>();
+
+            for (String term : queryTerms) {
+                Postings postings = index.get(term);
+                if (postings == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int documentId = postings.documentIds[i];
+                    int frequency = postings.frequencies[i];
+                    double lengthRatio = documents.get(documentId).length() / averageLength;
+
+                    if (matchedTerms[documentId] == 0) {
+                        touched.add(documentId);
+                    }
+                    matchedTerms[documentId]++;
+                    scores[documentId] += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                }
+            }
+
+            // 검색어를 더 많이 포함한 문서 우선 (한글은 2글자 단위가 모두 맞아야 높은 점수)
+            for (int documentId : touched) {
+                double coverage = (double) matchedTerms[documentId] / queryTerms.size();
+                scores[documentId] *= coverage * coverage;
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.<Integer>comparingDouble(id -> scores[id]));
+            for (int documentId : touched) {
+                top.offer(documentId);
+                if (top.size() > boundedLimit) {
+                    top.poll();
+                }
+            }
+
+            List<Integer> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble((Integer id) -> scores[id]).reversed());
+            for (int documentId : ranked) {
+                topDocuments.add(documents.get(documentId));
+                topScores.add(scores[documentId]);
+            }
+            total = touched.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 스니펫은 잠금 밖에서 원문 캐시로 생성
+        Pattern highlightPattern = createHighlightPattern(query, queryTerms);
+        List<SearchResultDto> results = new ArrayList<>(topDocuments.size());
+        for (int i = 0; i < topDocuments.size(); i++) {
+            SearchDocument document = topDocuments.get(i);
+            results.add(new SearchResultDto(document.name(), document.pageId(), topScores.get(i),
+                    createSnippet(document.path(), highlightPattern)));
+        }
+
+        long tookMillis = (System.nanoTime() - startTime) / 1_000_000;
+        log.debug("검색 완료: \"{}\" -> {} 건, {}ms", query, total, tookMillis);
+        return new SearchResultsDto(query, total, tookMillis, results);
+    }
+
+    private void addDocument(AnalyzedDocument analyzed) {
+        int documentId = freeIds.isEmpty() ? documents.size() : freeIds.pop();
+        SearchDocument document = new SearchDocument(analyzed.path(), analyzed.name(),
+                stringUtils.toPageId(analyzed.path()),
+                analyzed.termFrequencies().keySet().toArray(String[]::new), analyzed.length());
+
+        if (documentId == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(documentId, document);
+        }
+        idByPath.put(document.path(), documentId);
+        totalLength += document.length();
+
+        for (Map.Entry<String, Integer> entry : analyzed.termFrequencies().entrySet()) {
+            index.computeIfAbsent(entry.getKey(), k -> new Postings()).add(documentId, entry.getValue());
+        }
+    }
+
+    private void removeDocument(String path) {
+        Integer documentId = idByPath.remove(path);
+        if (documentId == null) {
+            return;
+        }
+
+        SearchDocument document = documents.get(documentId);
+        for (String term : document.terms()) {
+            Postings postings = index.get(term);
+            if (postings != null) {
+                postings.remove(documentId);
+                if (postings.size == 0) {
+                    index.remove(term);
+                }
+            }
+        }
+
+        totalLength -= document.length();
+        documents.set(documentId, null);
+        freeIds.push(documentId);
+    }
+
+    // 제목, 헤더, 본문의 단어 빈도를 가중치와 함께 합산
+    private AnalyzedDocument analyze(NoteRecordDto record) {
+        String name = record.getTitle();
+        Map<String, Integer> frequencies = new HashMap<>();
+        int[] length = new int[1];
+
+        Consumer<String> titleCounter = counter(frequencies, length, TITLE_WEIGHT);
+        tokenize(name, titleCounter);
+
+        Consumer<String> headingCounter = counter(frequencies, length, HEADING_WEIGHT);
+        for (String heading : record.getHeadings()) {
+            tokenize(heading, headingCounter);
+        }
+
+        tokenize(record.getContent(), counter(frequencies, length, 1));
+
+        return new AnalyzedDocument(record.getPath(), name, frequencies, length[0]);
+    }
+
+    private Consumer<String> counter(Map<String, Integer> frequencies, int[] length, int weight) {
+        return term -> {
+            frequencies.merge(term, weight, Integer::sum);
+            length[0] += weight;
+        };
+    }
+
+    // 텍스트를 검색 단어로 분리
+    // 영문/숫자는 연속된 글자를 소문자 단어로, 한글/한자/가나는 연속된 글자를 2글자씩 겹쳐 자름
+    // ("검색엔진" -> "검색", "색엔", "엔진", 한 글자면 그대로)
+    private void tokenize(String text, Consumer<String> consumer) {
+        int length = text.length();
+        int position = 0;
+
+        while (position < length) {
+            char current = text.charAt(position);
+
+            if (isCjk(current)) {
+                int start = position;
+                while (position < length && isCjk(text.charAt(position))) {
+                    position++;
+                }
+
+                if (position - start == 1) {
+                    consumer.accept(text.substring(start, position));
+                } else {
+                    for (int i = start; i + 1 < position; i++) {
+                        consumer.accept(text.substring(i, i + 2));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(current)) {
+                int start = position;
+                while (position < length && Character.isLetterOrDigit(text.charAt(position))
+                        && !isCjk(text.charAt(position))) {
+                    position++;
+                }
+                consumer.accept(text.substring(start, position).toLowerCase(Locale.ROOT));
+            } else {
+                position++;
+            }
+        }
+    }
+
+    private boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    // 검색어의 각 단어를 강조할 패턴 (긴 단어부터 일치)
+    private Pattern createHighlightPattern(String query, Set<String> queryTerms) {
+        Set<String> words = new LinkedHashSet<>(Arrays.asList(query.trim().split("\\s+")));
+        words.addAll(queryTerms);
+
+        String alternatives = words.stream()
+                .filter(word -> !word.isBlank())
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+
+        return Pattern.compile(alternatives, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    // 처음 일치하는 위치 주변을 잘라 HTML 이스케이프 후 일치 부분을 <mark> 로 감쌈
+    private String createSnippet(String path, Pattern highlightPattern) {
+        String text;
+        try {
+            text = MARKUP_PATTERN.matcher(markdownService.readMarkdownFile(Paths.get(path))).replaceAll(" ")
+                    .replaceAll("\\s+", " ")
+                    .trim();
+        } catch (Exception e) {
+            log.warn("스니펫 생성용 파일 읽기 오류: {}: {}", path, e.getMessage());
+            return "";
+        }
+
+        Matcher matcher = highlightPattern.matcher(text);
+        int center = matcher.find() ? matcher.start() : 0;
+        int from = Math.max(0, center - SNIPPET_RADIUS);
+        int to = Math.min(text.length(), center + SNIPPET_RADIUS);
+        String window = text.substring(from, to);
+
+        StringBuilder snippet = new StringBuilder(window.length() + 32);
+        if (from > 0) {
+            snippet.append("… ");
+        }
+
+        Matcher windowMatcher = highlightPattern.matcher(window);
+        int copied = 0;
+        while (windowMatcher.find()) {
+            snippet.append(HtmlUtils.htmlEscape(window.substring(copied, windowMatcher.start())))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(windowMatcher.group()))
+                    .append("</mark>");
+            copied = windowMatcher.end();
+        }
+        snippet.append(HtmlUtils.htmlEscape(window.substring(copied)));
+
+        if (to < text.length()) {
+            snippet.append(" …");
+        }
+        return snippet.toString();
+    }
+}
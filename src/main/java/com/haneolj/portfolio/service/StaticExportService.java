@@ -0,0 +1,423 @@
+package com.haneolj.portfolio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haneolj.portfolio.dto.BacklinkDto;
+import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.GraphFormat;
+import com.haneolj.portfolio.dto.GraphPayloadDto;
+import com.haneolj.portfolio.dto.StaticExportResultDto;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import com.haneolj.portfolio.util.StringUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// 정적 사이트 내보내기 모드 (CDN 또는 nginx 에서 그대로 서비스)
+// --export[=디렉토리] 로 실행하면 노트 페이지, 첫 페이지, 그래프 JSON, 정적 파일을 쓰고 종료
+// 노트 페이지는 study/view/<페이지 식별자>/index.html (nginx: try_files $uri $uri/index.html)
+// 이전 내보내기의 매니페스트와 입력 해시가 같은 파일은 다시 렌더링하지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StaticExportService implements ApplicationRunner {
+
+    private static final String MANIFEST_FILE = "export-manifest.json";
+
+    // 내보내는 페이지의 템플릿이나 모델을 바꾸면 올려서 이전 내보내기 결과를 다시 씀
+    private static final String PAGE_FORMAT_VERSION = "2";
+
+    // graph-view.js 가 요청하는 경로 (정적 서버는 ?format=columnar 를 무시하므로 열 단위 형식으로 저장)
+    private static final String GRAPH_FILE = "api/study/graph";
+
+    private final ApplicationContext applicationContext;
+    private final StudyService studyService;
+    private final MarkdownService markdownService;
+    private final GraphService graphService;
+    private final NoteIngestionService noteIngestionService;
+    private final TemplateRenderService templateRenderService;
+    private final StringUtils stringUtils;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.version}")
+    private String appVersion;
+
+    // --export 에 디렉토리를 지정하지 않았을 때 사용
+    @Value("${obsidian.export.directory:export}")
+    private String exportDirectory;
+
+    // 페이지 렌더링 스레드 수 (0 이면 CPU 코어 수)
+    @Value("${obsidian.export.threads:0}")
+    private int threads;
+
+    // 파일 하나의 내용을 만드는 작업 (입력 해시가 바뀐 경우에만 호출)
+    @FunctionalInterface
+    private interface ContentRenderer {
+        byte[] render() throws IOException;
+    }
+
+    // 내보내기 한 번의 진행 상태
+    private static final class ExportProgress {
+        private final Path target;
+        // <대상 디렉토리 기준 경로, 입력 해시>
+        private final Map<String, String> previousHashes;
+        private final Map<String, String> hashes = new ConcurrentHashMap<>();
+        private final AtomicInteger written = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private ExportProgress(Path target, Map<String, String> previousHashes) {
+            this.target = target;
+            this.previousHashes = previousHashes;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("export")) {
+            return;
+        }
+
+        List<String> values = args.getOptionValues("export");
+        String directory = values.isEmpty() || values.get(0).isBlank() ? exportDirectory : values.get(0);
+
+        int exitCode;
+        try {
+            StaticExportResultDto result = export(Paths.get(directory));
+            exitCode = result.getFailedCount() == 0 ? 0 : 1;
+        } catch (Exception e) {
+            log.error("정적 사이트 내보내기 실패: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        // 내보내기 모드에서는 서버를 띄운 채로 남기지 않음
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    // 현재 스터디 트리를 정적 사이트로 내보내기
+    public StaticExportResultDto export(Path targetDirectory) throws IOException {
+        long startTime = System.nanoTime();
+
+        StudySnapshotDto snapshot = studyService.getStudySnapshot();
+        if (snapshot == null) {
+            throw new RuntimeException("스터디 구조를 불러올 수 없어 내보낼 수 없습니다");
+        }
+
+        Path target = targetDirectory.toAbsolutePath().normalize();
+        Files.createDirectories(target);
+        ExportProgress progress = new ExportProgress(target, readManifest(target));
+
+        // 사이드바와 푸터는 모든 페이지에 들어가므로 트리나 연도가 바뀌면 모든 페이지를 다시 씀
+        String categoryTreeHtml = templateRenderService.getCategoryTreeHtml(snapshot);
+        String pageHash = String.join("\n", PAGE_FORMAT_VERSION, appVersion,
+                String.valueOf(Year.now().getValue()),
+                sha256(String.valueOf(categoryTreeHtml).getBytes(StandardCharsets.UTF_8)));
+
+        List<CategoryNodeDto> notes = new ArrayList<>();
+        collectNotes(snapshot.getRoot(), notes);
+        log.info("정적 사이트 내보내기 시작: {} (노트 {} 개, 트리 버전 {})", target, notes.size(), snapshot.getVersion());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService workers = Executors.newFixedThreadPool(poolSize, namedDaemonThreads("export-worker-"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (CategoryNodeDto note : notes) {
+                futures.add(workers.submit(() -> exportNote(note, snapshot, categoryTreeHtml, pageHash, progress)));
+            }
+            futures.add(workers.submit(() -> exportIndex(snapshot, categoryTreeHtml, pageHash, progress)));
+            futures.add(workers.submit(() -> exportAbout(pageHash, progress)));
+            futures.add(workers.submit(() -> exportGraph(progress)));
+
+            exportAssets(progress);
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("정적 사이트 내보내기가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("정적 사이트 내보내기 중 오류 발생: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        int removed = removeStaleFiles(progress);
+        writeManifest(progress, snapshot);
+
+        StaticExportResultDto result = new StaticExportResultDto(target.toString(), snapshot.getVersion(),
+                progress.hashes.size(), progress.written.get(), progress.skipped.get(), removed,
+                progress.failed.get(), (System.nanoTime() - startTime) / 1_000_000);
+
+        log.info("정적 사이트 내보내기 완료: 전체 {} 개, 저장 {} 개, 건너뜀 {} 개, 삭제 {} 개, 실패 {} 개 ({}ms)",
+                result.getTotalCount(), result.getWrittenCount(), result.getSkippedCount(),
+                result.getRemovedCount(), result.getFailedCount(), result.getElapsedMillis());
+        return result;
+    }
+
+    // 노트 페이지 (MarkdownController 와 같은 모델)
+    private void exportNote(CategoryNodeDto note, StudySnapshotDto snapshot, String categoryTreeHtml,
+            String pageHash, ExportProgress progress) {
+        String filePath = note.getPath();
+        Path path = Paths.get(filePath);
+        String relativePath = "study/view/" + stringUtils.toPageId(filePath) + "/index.html";
+
+        String inputHash;
+        List<BacklinkDto> backlinks;
+        String lastModified;
+        String createdAt;
+        try {
+            backlinks = graphService.getBacklinks(filePath);
+            lastModified = markdownService.getLastModifiedDate(path);
+            createdAt = markdownService.getFileCreationDate(path);
+            inputHash = sha256(String.join("\n", pageHash, String.valueOf(note.getContentId()), lastModified,
+                    createdAt, objectMapper.writeValueAsString(backlinks)).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            progress.failed.incrementAndGet();
+            log.error("노트 내보내기 실패: {}: {}", filePath, e.getMessage(), e);
+            return;
+        }
+
+        exportFile(relativePath, inputHash, () -> {
+            String markdownContent = markdownService.readMarkdownFile(path);
+            String htmlContent = markdownService.convertToHtml(markdownService.contentId(path, markdownContent),
+                    markdownContent);
+
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("version", appVersion);
+            variables.put("contentTitle", noteIngestionService.toTitle(path));
+            variables.put("contentBody", htmlContent);
+            variables.put("contentLastModified", lastModified);
+            variables.put("contentCreatedAt", createdAt);
+            variables.put("studyRoot", snapshot.getRoot());
+            variables.put("categoryTreeHtml", categoryTreeHtml);
+            variables.put("staticExport", true);
+            variables.put("backlinks", backlinks);
+            variables.put("currentFilePath", filePath);
+
+            return templateRenderService.render("study/markdown-view", variables).getBytes(StandardCharsets.UTF_8);
+        }, progress);
+    }
+
+    // 첫 페이지 (HomeController 와 같은 모델)
+    private void exportIndex(StudySnapshotDto snapshot, String categoryTreeHtml, String pageHash,
+            ExportProgress progress) {
+        String updateDate = studyService.getLastUpdateDate();
+        String inputHash = sha256((pageHash + "\n" + updateDate).getBytes(StandardCharsets.UTF_8));
+
+        exportFile("index.html", inputHash, () -> {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("version", appVersion);
+            variables.put("studyRoot", snapshot.getRoot());
+            variables.put("categoryTreeHtml", categoryTreeHtml);
+            variables.put("staticExport", true);
+            variables.put("updateDate", updateDate);
+
+            return templateRenderService.render("home/index", variables).getBytes(StandardCharsets.UTF_8);
+        }, progress);
+    }
+
+    private void exportAbout(String pageHash, ExportProgress progress) {
+        exportFile("about/this/index.html", sha256(pageHash.getBytes(StandardCharsets.UTF_8)), () ->
+                templateRenderService.render("about/this", Map.of("version", appVersion))
+                        .getBytes(StandardCharsets.UTF_8), progress);
+    }
+
+    // 그래프 본문은 이미 버전별로 직렬화되어 있으므로 그대로 저장
+    private void exportGraph(ExportProgress progress) {
+        GraphPayloadDto payload = graphService.getGraphPayload(GraphFormat.COLUMNAR);
+        exportFile(GRAPH_FILE, payload.getEtag(), payload::getBytes, progress);
+    }
+
+    // static/ 아래 CSS, JS, 이미지 복사 (내용 해시가 같으면 건너뜀)
+    private void exportAssets(ExportProgress progress) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        String base = resolver.getResource("classpath:static/").getURL().toString();
+
+        for (Resource resource : resolver.getResources("classpath:static/**")) {
+            String url = resource.getURL().toString();
+            if (!resource.isReadable() || url.endsWith("/") || !url.startsWith(base)) {
+                continue;
+            }
+
+            byte[] bytes;
+            try (InputStream input = resource.getInputStream()) {
+                bytes = input.readAllBytes();
+            }
+            exportFile(url.substring(base.length()), sha256(bytes), () -> bytes, progress);
+        }
+    }
+
+    // 입력 해시가 이전 내보내기와 같고 파일이 남아 있으면 건너뛰고, 아니면 내용을 만들어 저장
+    private void exportFile(String relativePath, String inputHash, ContentRenderer renderer,
+            ExportProgress progress) {
+        Path file = progress.target.resolve(relativePath);
+        String previousHash = progress.previousHashes.get(relativePath);
+
+        if (inputHash.equals(previousHash) && Files.exists(file)) {
+            progress.hashes.put(relativePath, inputHash);
+            progress.skipped.incrementAndGet();
+            return;
+        }
+
+        try {
+            writeAtomically(file, renderer.render());
+            progress.hashes.put(relativePath, inputHash);
+            progress.written.incrementAndGet();
+        } catch (Exception e) {
+            // 이전 파일은 남겨 두고 다음 내보내기에서 다시 시도
+            if (previousHash != null) {
+                progress.hashes.put(relativePath, previousHash);
+            }
+            progress.failed.incrementAndGet();
+            log.error("파일 내보내기 실패: {}: {}", relativePath, e.getMessage(), e);
+        }
+    }
+
+    // 이전 내보내기에는 있었지만 이번에는 없는 파일 삭제 (삭제되거나 이름이 바뀐 노트)
+    private int removeStaleFiles(ExportProgress progress) {
+        int removed = 0;
+
+        for (String relativePath : progress.previousHashes.keySet()) {
+            if (progress.hashes.containsKey(relativePath)) {
+                continue;
+            }
+
+            Path file = progress.target.resolve(relativePath).normalize();
+            if (!file.startsWith(progress.target)) {
+                continue;
+            }
+
+            try {
+                if (Files.deleteIfExists(file)) {
+                    removed++;
+                }
+                deleteEmptyDirectories(file.getParent(), progress.target);
+            } catch (IOException e) {
+                log.warn("이전 내보내기 파일 삭제 실패: {}: {}", relativePath, e.getMessage());
+            }
+        }
+        return removed;
+    }
+
+    // 노트 페이지 디렉토리처럼 비게 된 상위 디렉토리 삭제 (대상 디렉토리는 유지)
+    private void deleteEmptyDirectories(Path directory, Path target) throws IOException {
+        for (Path current = directory; current != null && !current.equals(target); current = current.getParent()) {
+            if (!Files.isDirectory(current)) {
+                continue;
+            }
+            try (Stream<Path> entries = Files.list(current)) {
+                if (entries.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.delete(current);
+        }
+    }
+
+    // 이전 내보내기의 파일별 입력 해시 (없거나 읽지 못하면 전체를 다시 씀)
+    private Map<String, String> readManifest(Path target) {
+        Path manifest = target.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifest)) {
+            return Map.of();
+        }
+
+        try {
+            Map<String, String> hashes = new HashMap<>();
+            JsonNode files = objectMapper.readTree(manifest.toFile()).path("files");
+            files.fields().forEachRemaining(entry -> hashes.put(entry.getKey(), entry.getValue().asText()));
+            return hashes;
+        } catch (IOException e) {
+            log.warn("이전 내보내기 매니페스트를 읽지 못해 전체를 다시 씁니다: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void writeManifest(ExportProgress progress, StudySnapshotDto snapshot) throws IOException {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("appVersion", appVersion);
+        manifest.put("treeVersion", snapshot.getVersion());
+        manifest.put("exportedAt", Instant.now().toString());
+        manifest.put("files", new TreeMap<>(progress.hashes));
+
+        writeAtomically(progress.target.resolve(MANIFEST_FILE),
+                objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+    }
+
+    // 임시 파일에 쓴 뒤 교체 (서비스 중인 디렉토리에 내보내도 반쯤 쓴 파일이 보이지 않도록)
+    private void writeAtomically(Path file, byte[] bytes) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), ".export-", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void collectNotes(CategoryNodeDto node, List<CategoryNodeDto> notes) {
+        if (node == null) {
+            return;
+        }
+        if (!node.isDirectory()) {
+            notes.add(node);
+            return;
+        }
+        for (CategoryNodeDto child : node.getChildren()) {
+            collectNotes(child, notes);
+        }
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,92 +1,326 @@
 package com.haneolj.portfolio.service;
 
 import com.haneolj.portfolio.dto.CategoryNodeDto;
-import java.util.concurrent.CompletableFuture;
+import com.haneolj.portfolio.dto.NoteRecordDto;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StudyService {
 
-    private final GitService gitService;
-    private final MarkdownService markdownService;
+    private final GitHistoryService gitHistoryService;
+    private final RepositoryStateService repositoryStateService;
+    private final MarkdownPrecacheService markdownPrecacheService;
+    private final NoteIndexService noteIndexService;
+    private final GraphService graphService;
+    private final SearchService searchService;
+    private final NoteIngestionService noteIngestionService;
+    private final CacheManager cacheManager;
+    private final VaultSource vaultSource;
 
     @Value("${obsidian.repo.study-path}")
     private String studyPath;
 
-    private static final Pattern OBSIDIAN_LINK_PATTERN =
-            Pattern.compile("\\[\\[([^]]+)]]|\\[[^]]*]\\(([^)]+\\.md)\\)");
+    // 디렉토리 스캔 병렬 작업 수 (0 이면 CPU 코어 수)
+    @Value("${obsidian.scan.parallelism:0}")
+    private int scanParallelism;
 
-    private LocalDateTime lastUpdate;
-    private CategoryNodeDto studyRoot;
+    // 하위 디렉토리를 병렬로 스캔하는 전용 풀 (파일 읽기가 섞여 있어 공용 풀과 분리)
+    private ForkJoinPool scanPool;
+
+    // 디렉토리 먼저, 같은 종류끼리는 파일 이름 순 (대소문자 무시)
+    private static final Comparator<CategoryNodeDto> NODE_ORDER =
+            Comparator.comparing((CategoryNodeDto node) -> !node.isDirectory())
+                    .thenComparing(node -> Paths.get(node.getPath()).getFileName().toString(),
+                            String.CASE_INSENSITIVE_ORDER);
+
+    // 스캔 항목 정렬, NODE_ORDER 와 같은 기준을 한 번 읽은 속성으로 비교
+    private static final Comparator<VaultSource.Entry> ENTRY_ORDER =
+            Comparator.comparing((VaultSource.Entry entry) -> !entry.directory())
+                    .thenComparing(VaultSource.Entry::name, String.CASE_INSENSITIVE_ORDER);
+
+    // 재시작 후에도 이전 실행의 버전과 겹치지 않도록 시작 시각에서 출발 (페이지 검증값에 사용)
+    private final AtomicLong versionCounter = new AtomicLong(System.currentTimeMillis());
+
+    // 현재 공개된 스터디 트리, 새 트리를 옆에서 완성한 뒤 참조만 교체
+    // 읽는 쪽은 잠금 없이 한 버전의 트리만 보게 됨
+    private volatile StudySnapshotDto snapshot;
+
+    // 아래 필드는 트리를 변경하는 쪽(synchronized 메서드)에서만 사용
+    private Path studyDirectoryPath;
+
+    // <정규화한 경로, 현재 스냅샷의 노드> (루트 포함), 파일 단위 갱신 시 트리를 탐색하지 않고 바로 찾기 위해 사용
+    // 변경은 트리를 변경하는 쪽에서만 하고, 읽기(getContentId)는 잠금 없이 가능
+    private volatile Map<String, CategoryNodeDto> nodeIndex = new ConcurrentHashMap<>();
+
+    // 스캔 작업들이 함께 채우는 결과
+    private static final class ScanResult {
+        private final Queue<Path> markdownFiles = new ConcurrentLinkedQueue<>();
+        private final Queue<NoteRecordDto> records = new ConcurrentLinkedQueue<>();
+        private final Map<String, CategoryNodeDto> index = new ConcurrentHashMap<>();
+    }
+
+    // 디렉토리 하나를 스캔하는 작업, 하위 디렉토리는 fork 하여 병렬로 스캔
+    private final class DirectoryScanTask extends RecursiveTask<CategoryNodeDto> {
+        private final String displayName;
+        private final Path directoryPath;
+        private final ScanResult result;
+
+        private DirectoryScanTask(String displayName, Path directoryPath, ScanResult result) {
+            this.displayName = displayName;
+            this.directoryPath = directoryPath;
+            this.result = result;
+        }
+
+        @Override
+        protected CategoryNodeDto compute() {
+            try {
+                return scanDirectory(displayName, directoryPath, result);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (scanParallelism <= 0) {
+            scanParallelism = Runtime.getRuntime().availableProcessors();
+        }
+
+        scanPool = new ForkJoinPool(scanParallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("study-scan-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+
+        log.info("디렉토리 스캔 설정: 병렬 작업 {} 개", scanParallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdownNow();
+    }
 
 
     // Study 디렉토리 구조 반환
-    @Cacheable(value = "studyStructureCache", unless = "#result == null")
     public CategoryNodeDto getStudyStructure() {
-        // Refresh가 필요한지 체크
-        if (studyRoot == null) {
+        StudySnapshotDto current = getStudySnapshot();
+        return current != null ? current.getRoot() : null;
+    }
+
+    // 현재 스터디 트리 스냅샷 반환 (최초 호출 시 구성)
+    public StudySnapshotDto getStudySnapshot() {
+        StudySnapshotDto current = snapshot;
+        if (current == null) {
             try {
-                refreshStudyStructure();
+                buildInitialSnapshot();
             } catch (Exception e) {
                 log.error("스터디 구조를 새로고침하는 중 오류 발생: {}", e.getMessage(), e);
                 // 오류 발생 시 null 반환 (view에서 처리)
                 return null;
             }
+            current = snapshot;
         }
-        return studyRoot;
+        return current;
+    }
+
+    // 노트의 내용 식별자 (구조에 없는 경로면 null)
+    // 파일이나 렌더링 결과를 읽지 않고 노드 색인에서 바로 조회
+    public String getContentId(String filePath) {
+        CategoryNodeDto node = nodeIndex.get(normalizePath(Paths.get(filePath)));
+        return node != null && !node.isDirectory() ? node.getContentId() : null;
     }
 
     // 마지막 Timestamp 가져오기
     public String getLastUpdateDate() {
-        if (lastUpdate == null) {
+        StudySnapshotDto current = snapshot;
+        if (current == null) {
             return "Unknown";
         }
-        return lastUpdate.format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
+        return current.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy.MM.dd"));
     }
 
-    // Study 디렉토리 구조 Refresh
-    @CacheEvict(value = {"studyStructureCache", "markdownHtmlCache", "fileContentCache"}, allEntries = true)
+    // 원격 저장소와 동기화한 뒤 Study 디렉토리 구조 Refresh (/refresh)
     public synchronized void refreshStudyStructure() {
+        repositoryStateService.sync("refresh");
+        buildSnapshot();
+    }
+
+    // 주기적으로 원격 저장소를 확인하고, 새 커밋이 있으면 바뀐 경로만 구조에 반영
+    @Scheduled(cron = "${obsidian.repo.sync-cron:-}")
+    public boolean pollRepository() {
+        try {
+            RepositoryStateService.HeadChange heads = repositoryStateService.syncHeads("poll");
+            if (heads.changed()) {
+                log.info("새 커밋 감지, 변경된 경로 반영");
+                applyCommitDiff(heads.before(), heads.after());
+                return true;
+            }
+        } catch (Exception e) {
+            log.error("주기적 저장소 동기화 중 오류 발생: {}", e.getMessage(), e);
+        }
+        return false;
+    }
+
+    // 로컬 저장소 기준으로 Study 디렉토리 구조 재구성 (네트워크 접근 없음)
+    public synchronized void rebuildStudyStructure() {
+        buildSnapshot();
+    }
+
+    // 두 커밋의 트리 차이로 바뀐 스터디 경로만 구조에 반영 (이름 변경, 삭제 포함)
+    // 반영한 경로 수 반환, 비교할 수 없어 전체 재구성했으면 -1
+    public synchronized int applyCommitDiff(String fromCommit, String toCommit) {
+        if (snapshot == null) {
+            // 아직 구성 전이면 첫 요청에서 현재 상태로 구성됨
+            return 0;
+        }
+
+        if (fromCommit == null || toCommit == null) {
+            log.info("비교할 이전 커밋이 없어 전체 재구성");
+            buildSnapshot();
+            return -1;
+        }
+
+        List<GitHistoryService.PathChange> changes;
+        try {
+            changes = gitHistoryService.diffStudyTree(fromCommit, toCommit);
+        } catch (Exception e) {
+            // 강제 푸시 등으로 이전 커밋을 찾을 수 없는 경우
+            log.warn("커밋 비교 실패, 전체 재구성: {}", e.getMessage());
+            buildSnapshot();
+            return -1;
+        }
+
+        // 변경/삭제/이름 변경 전후 경로 중 마크다운 파일만 반영 (첨부 파일은 구조에 영향 없음)
+        Set<Path> touchedNotes = new LinkedHashSet<>();
+        for (GitHistoryService.PathChange change : changes) {
+            for (Path path : Arrays.asList(change.oldPath(), change.newPath())) {
+                if (path != null && path.getFileName().toString().endsWith(".md")) {
+                    touchedNotes.add(path);
+                }
+            }
+        }
+
+        applyChangedPaths(touchedNotes);
+
+        log.info("커밋 차이 반영 완료: 변경 {} 건 중 노트 {} 개 ({} -> {})",
+                changes.size(), touchedNotes.size(), abbreviate(fromCommit), abbreviate(toCommit));
+        return touchedNotes.size();
+    }
+
+    // 바뀐 경로(노트 파일 또는 디렉토리)를 구조, 그래프, 검색 색인, 캐시에 반영
+    // 여러 동기화가 겹쳐도 결과가 맞도록 변경 종류 대신 현재 파일 시스템 상태로 추가/갱신/제거 결정
+    public synchronized void applyChangedPaths(Collection<Path> paths) {
+        if (snapshot == null) {
+            return;
+        }
+
+        boolean notesAddedOrRemoved = false;
+        for (Path path : paths) {
+            try {
+                Optional<VaultSource.Entry> entry = vaultSource.stat(path);
+                if (entry.isPresent() && entry.get().directory()) {
+                    // 새 디렉토리는 하위 트리만 스캔 (이미 구조에 있으면 무시)
+                    if (isStudyFile(path) && !nodeIndex.containsKey(normalizePath(path))) {
+                        addDirectoryNode(path);
+                        notesAddedOrRemoved = true;
+                    }
+                } else if (entry.isPresent()) {
+                    if (path.getFileName().toString().endsWith(".md")) {
+                        evictSourceCache(path);
+                        notesAddedOrRemoved |= updateFileNode(path);
+                    }
+                } else {
+                    // 삭제된 노트 또는 디렉토리 (구조에 없으면 무시)
+                    evictSourceCache(path);
+                    notesAddedOrRemoved |= removeNode(path);
+                }
+            } catch (Exception e) {
+                log.error("변경 경로 반영 중 오류 발생: {}", path, e);
+            }
+        }
+
+        // 노트가 추가/삭제되면 다른 노트의 링크 해석 결과도 바뀔 수 있음
+        if (notesAddedOrRemoved) {
+            clearCache("markdownRenderCache");
+        }
+    }
+
+    // 아직 스냅샷이 없을 때만 구성 (동시에 들어온 첫 요청들이 각자 스캔하지 않도록)
+    private synchronized void buildInitialSnapshot() {
+        if (snapshot == null) {
+            buildSnapshot();
+        }
+    }
+
+    // 디렉토리 전체를 스캔하여 새 트리를 만든 뒤 교체
+    private void buildSnapshot() {
         log.info("스터디 구조 새로고침 시작 (캐시 초기화)");
-        String repoPath = gitService.ensureRepository();
+        String repoPath = repositoryStateService.getLocalPath();
         log.info("저장소 경로: {}", repoPath);
 
         Path studyDirectoryPath = Paths.get(repoPath, studyPath);
         log.info("스터디 디렉토리 경로: {}", studyDirectoryPath);
 
         try {
-            if (!Files.exists(studyDirectoryPath)) {
+            if (!exists(studyDirectoryPath)) {
                 log.error("스터디 디렉토리가 존재하지 않습니다: {}", studyDirectoryPath);
                 throw new RuntimeException("스터디 디렉토리를 찾을 수 없습니다");
             }
 
-            studyRoot = new CategoryNodeDto("Study", studyDirectoryPath.toString(), true);
+            // 스캔하면서 원문 캐시를 다시 채우므로 스캔 전에 비움
+            clearContentCaches();
+
+            Map<String, CategoryNodeDto> newNodeIndex = new ConcurrentHashMap<>();
             List<Path> allMarkdownFiles = new ArrayList<>();
+            List<NoteRecordDto> records = new ArrayList<>();
+
+            CategoryNodeDto newRoot = processDirectory("Study", studyDirectoryPath, allMarkdownFiles, records,
+                    newNodeIndex);
+
+            // 스캔한 파일 목록으로 링크 해석용 노트 색인 구성
+            noteIndexService.rebuild(studyDirectoryPath, allMarkdownFiles);
+
+            this.studyDirectoryPath = studyDirectoryPath;
+            this.nodeIndex = newNodeIndex;
+            publish(newRoot);
+
+            // 그래프는 바뀐 노트만 반영 (기존 노드 ID 유지)
+            List<CategoryNodeDto> fileNodes = new ArrayList<>();
+            collectFileNodes(newRoot, fileNodes);
+            graphService.rebuild(fileNodes);
 
-            processDirectory(studyRoot, studyDirectoryPath, allMarkdownFiles);
-            lastUpdate = LocalDateTime.now();
+            // 검색 색인은 스캔 중 읽은 노트 기록으로 구성 (파일을 다시 읽지 않음)
+            searchService.rebuild(records);
 
-            // 비동기적으로 모든 마크다운 파일을 사전 캐싱
-            log.info("총 {} 개의 마크다운 파일을 사전 캐싱합니다.", allMarkdownFiles.size());
-            CompletableFuture.runAsync(() -> precacheMarkdownFiles(allMarkdownFiles));
+            // 비동기적으로 모든 마크다운 파일을 사전 캐싱 (꺼져 있으면 건너뜀)
+            markdownPrecacheService.start(allMarkdownFiles);
 
             log.info("스터디 구조 새로고침 완료");
         } catch (IOException e) {
@@ -95,10 +329,45 @@ public class StudyService {
         }
     }
 
-    // 특정 파일의 캐시만 제거
-    @CacheEvict(value = {"markdownHtmlCache", "fileContentCache"}, key = "#filePath")
-    public void refreshFileCache(String filePath) {
-        log.debug("파일 캐시 제거: {}", filePath);
+    private void collectFileNodes(CategoryNodeDto node, List<CategoryNodeDto> fileNodes) {
+        if (!node.isDirectory()) {
+            fileNodes.add(node);
+            return;
+        }
+
+        for (CategoryNodeDto child : node.getChildren()) {
+            collectFileNodes(child, fileNodes);
+        }
+    }
+
+    // 원문/렌더링 캐시 전체 제거
+    private void clearContentCaches() {
+        clearCache("markdownSourceCache");
+        clearCache("markdownRenderCache");
+    }
+
+    private void clearCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void evictSourceCache(Path file) {
+        Cache cache = cacheManager.getCache("markdownSourceCache");
+        if (cache != null) {
+            cache.evict(file.toString());
+        }
+    }
+
+    private String abbreviate(String commitId) {
+        return commitId.length() > 7 ? commitId.substring(0, 7) : commitId;
+    }
+
+    // 새 루트로 스냅샷 교체 (버전 증가)
+    private void publish(CategoryNodeDto newRoot) {
+        snapshot = new StudySnapshotDto(versionCounter.incrementAndGet(), newRoot, LocalDateTime.now());
+        log.debug("스터디 트리 버전 {} 공개", snapshot.getVersion());
     }
 
     // 디렉토리 구조 검증 및 디버깅
@@ -126,222 +395,360 @@ public class StudyService {
         }
     }
 
-    // 모든 마크다운 파일 사전 캐싱
-    private void precacheMarkdownFiles(List<Path> markdownFiles) {
-        int total = markdownFiles.size();
-        int processed = 0;
-        int success = 0;
-        int failed = 0;
-
-        log.info("마크다운 파일 사전 캐싱 시작 (총 {} 파일)", total);
-
-        for (Path file : markdownFiles) {
-            try {
-                // 파일 내용 읽기
-                String markdownContent = markdownService.readMarkdownFile(file);
-
-                // HTML로 변환하여 캐싱
-                markdownService.convertToHtml(markdownContent);
-
-                success++;
-            } catch (Exception e) {
-                log.warn("파일 사전 캐싱 실패: {}, 오류: {}", file, e.getMessage());
-                failed++;
-            }
-
-            processed++;
-
-            // 진행 상태 로깅 (10% 단위)
-            if (processed % Math.max(1, total / 10) == 0 || processed == total) {
-                int percentage = (int) (((double) processed / total) * 100);
-                log.info("사전 캐싱 진행 중: {}% 완료 ({}/{}), 성공: {}, 실패: {}",
-                        percentage, processed, total, success, failed);
-            }
-        }
-
-        log.info("마크다운 파일 사전 캐싱 완료. 총 {} 파일 중 {} 성공, {} 실패",
-                total, success, failed);
-    }
-
     // 디렉토리 처리
-    // 처리된 디렉토리는 디렉토리 구조에 추가
-    private void processDirectory(CategoryNodeDto parentNode, Path directoryPath, List<Path> allMarkdownFiles) throws IOException {
-        if (!Files.exists(directoryPath)) {
+    // 하위 트리 전체를 스캔 풀에서 병렬로 스캔한 뒤 디렉토리 노드를 반환 (색인에도 추가)
+    private CategoryNodeDto processDirectory(String displayName, Path directoryPath, List<Path> allMarkdownFiles,
+            List<NoteRecordDto> records, Map<String, CategoryNodeDto> index) throws IOException {
+        Optional<VaultSource.Entry> directoryEntry = vaultSource.stat(directoryPath);
+        if (directoryEntry.isEmpty()) {
             log.warn("디렉토리가 존재하지 않습니다: {}", directoryPath);
-            return;
+            return CategoryNodeDto.directory(displayName, directoryPath.toString(), new ArrayList<>());
         }
 
-        if (!Files.isDirectory(directoryPath)) {
+        if (!directoryEntry.get().directory()) {
             log.warn("경로가 디렉토리가 아닙니다: {}", directoryPath);
-            return;
+            return CategoryNodeDto.directory(displayName, directoryPath.toString(), new ArrayList<>());
         }
 
+        long startTime = System.currentTimeMillis();
+        ScanResult result = new ScanResult();
+
+        CategoryNodeDto directoryNode;
         try {
-            // 디렉토리 내용을 스트림으로 읽고 정렬
-            List<Path> sortedEntries = Files.list(directoryPath)
-                    .sorted((a, b) -> {
-                        boolean aDir = Files.isDirectory(a);
-                        boolean bDir = Files.isDirectory(b);
+            directoryNode = scanPool.invoke(new DirectoryScanTask(displayName, directoryPath, result));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-                        if (aDir && !bDir) return -1;
-                        if (!aDir && bDir) return 1;
+        allMarkdownFiles.addAll(result.markdownFiles);
+        records.addAll(result.records);
+        index.putAll(result.index);
 
-                        return a.getFileName().toString().compareToIgnoreCase(b.getFileName().toString());
-                    })
-                    .toList();
+        log.info("디렉토리 스캔 완료: {} (파일 {} 개, {}ms)",
+                directoryPath, result.markdownFiles.size(), System.currentTimeMillis() - startTime);
+        return directoryNode;
+    }
 
-            for (Path entry : sortedEntries) {
-                String name = entry.getFileName().toString();
+    // 디렉토리 하나 스캔
+    // 항목마다 속성을 한 번만 읽고, 하위 디렉토리 작업을 먼저 fork 한 뒤 이 디렉토리의 파일을 처리
+    private CategoryNodeDto scanDirectory(String displayName, Path directoryPath, ScanResult result)
+            throws IOException {
+        List<VaultSource.Entry> entries = new ArrayList<>();
 
+        try {
+            for (VaultSource.Entry entry : vaultSource.list(directoryPath)) {
                 // 숨김 파일과 디렉토리 건너뛰기
-                if (name.startsWith(".")) {
-                    log.debug("숨김 항목 건너뛰기: {}", name);
+                if (entry.name().startsWith(".")) {
+                    log.debug("숨김 항목 건너뛰기: {}", entry.name());
                     continue;
                 }
+                entries.add(entry);
+            }
+        } catch (IOException e) {
+            log.error("디렉토리 처리 중 오류 발생: {}: {}", directoryPath, e.getMessage());
+            throw e;
+        }
 
-                boolean isDirectory = Files.isDirectory(entry);
-
-                // 번호 제거 ("1. Study" -> "Study")
-                String displayName = name.replaceAll("^\\d+\\.\\s*", "");
+        entries.sort(ENTRY_ORDER);
 
-                if (isDirectory) {
-                    CategoryNodeDto childNode = new CategoryNodeDto(displayName, entry.toString(), true);
-                    parentNode.addChild(childNode);
-                    processDirectory(childNode, entry, allMarkdownFiles);
-                } else if (name.endsWith(".md")) {
-                    // 마크다운 파일을 목록에 추가
-                    allMarkdownFiles.add(entry);
+        List<DirectoryScanTask> subdirectories = new ArrayList<>();
+        List<CategoryNodeDto> fileNodes = new ArrayList<>();
 
-                    // 표시용 확장자 제거
-                    displayName = displayName.substring(0, displayName.length() - 3);
+        for (VaultSource.Entry entry : entries) {
+            if (entry.directory()) {
+                DirectoryScanTask task = new DirectoryScanTask(toDisplayName(entry.name()), entry.path(), result);
+                task.fork();
+                subdirectories.add(task);
+            } else if (entry.name().endsWith(".md")) {
+                // 마크다운 파일을 목록에 추가
+                result.markdownFiles.add(entry.path());
 
-                    CategoryNodeDto fileNode = new CategoryNodeDto(displayName, entry.toString(), false);
+                NoteRecordDto record = ingestNote(entry.path());
+                if (record != null) {
+                    result.records.add(record);
+                }
 
-                    try {
-                        // 파일 수정 시간 가져오기
-                        LocalDateTime lastModified = LocalDateTime.ofInstant(
-                                Files.getLastModifiedTime(entry).toInstant(),
-                                ZoneId.systemDefault());
-                        fileNode.setLastModified(lastModified);
+                CategoryNodeDto fileNode = createFileNode(entry.path(), entry, record, null);
+                fileNodes.add(fileNode);
+                result.index.put(normalizePath(entry.path()), fileNode);
+            } else {
+                log.debug("마크다운이 아닌 파일 건너뛰기: {}", entry.name());
+            }
+        }
 
-                        LocalDateTime createdAt = gitService.getFileCreationDate(entry);
-                        fileNode.setCreatedAt(createdAt);
+        // 디렉토리 먼저, 그다음 파일 (각각 이미 정렬된 순서)
+        List<CategoryNodeDto> children = new ArrayList<>(subdirectories.size() + fileNodes.size());
+        for (DirectoryScanTask task : subdirectories) {
+            children.add(task.join());
+        }
+        children.addAll(fileNodes);
 
-                        // 마크다운 파일 파싱하여 링크 추출
-                        String content = Files.readString(entry);
-                        List<String> links = extractLinks(content);
-                        fileNode.setLinks(links);
-                    } catch (IOException e) {
-                        log.warn("파일 정보 읽기 오류: {}: {}", entry, e.getMessage());
-                    }
+        CategoryNodeDto directoryNode = CategoryNodeDto.directory(displayName, directoryPath.toString(), children);
+        result.index.put(normalizePath(directoryPath), directoryNode);
+        return directoryNode;
+    }
 
-                    parentNode.addChild(fileNode);
-                } else {
-                    log.debug("마크다운이 아닌 파일 건너뛰기: {}", name);
-                }
-            }
+    // 노트 파일을 한 번 읽어 분석 (읽기 실패 시 null)
+    private NoteRecordDto ingestNote(Path file) {
+        try {
+            return noteIngestionService.ingest(file);
         } catch (IOException e) {
-            log.error("디렉토리 처리 중 오류 발생: {}: {}", directoryPath, e.getMessage());
-            throw e;
+            log.warn("파일 정보 읽기 오류: {}: {}", file, e.getMessage());
+            return null;
         }
     }
 
-    // 옵시디언 링크 추출
-    private List<String> extractLinks(String content) {
-        List<String> links = new ArrayList<>();
-        Matcher matcher = OBSIDIAN_LINK_PATTERN.matcher(content);
+    // 파일 노드 생성 (수정 시간, 생성 시간, 링크 정보 포함)
+    // 링크와 링크 주변 문맥은 수집 단계의 노트 기록에서 가져옴
+    // 이미 알고 있는 생성 시간이 있으면 그대로 사용
+    // 수정 시간은 스캔할 때 읽은 속성에서 가져옴
+    private CategoryNodeDto createFileNode(Path file, VaultSource.Entry entry, NoteRecordDto record,
+            LocalDateTime createdAt) {
+        String displayName = noteIngestionService.toTitle(file);
 
-        while (matcher.find()) {
-            String link = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
-            if (link != null) {
-                links.add(link);
-            }
+        if (createdAt == null) {
+            createdAt = gitHistoryService.getFileCreationDate(file, entry.createdAt());
         }
 
-        return links;
+        LocalDateTime lastModified = LocalDateTime.ofInstant(
+                entry.lastModified(),
+                ZoneId.systemDefault());
+
+        List<String> links = record != null ? record.getLinks() : List.of();
+        Map<String, String> linkSnippets = record != null ? record.getLinkSnippets() : Map.of();
+        String contentId = record != null ? record.getContentId() : null;
+
+        return CategoryNodeDto.file(displayName, file.toString(), links, linkSnippets, contentId, createdAt,
+                lastModified);
+    }
+
+    // 번호 제거 ("1. Study" -> "Study")
+    private String toDisplayName(String name) {
+        return name.replaceAll("^\\d+\\.\\s*", "");
     }
 
-    // 특정 파일 노드 업데이트
-    public void updateFileNode(Path filePath) {
+    // 작업 트리 또는 Git 트리에 경로가 있는지 확인 (확인할 수 없으면 있는 것으로 간주하여 지우지 않음)
+    private boolean exists(Path path) {
         try {
-            if (!Files.exists(filePath)) {
+            return vaultSource.stat(path).isPresent();
+        } catch (IOException e) {
+            log.warn("경로 확인 중 오류 발생: {}: {}", path, e.getMessage());
+            return true;
+        }
+    }
+
+    private String normalizePath(Path path) {
+        return path.toString().replace('\\', '/');
+    }
+
+    // 특정 파일 노드 업데이트 (구조에 없으면 추가)
+    // 바뀐 노드부터 루트까지만 새로 만들어 새 스냅샷으로 교체
+    // 새 노트가 추가되었으면 true 반환
+    public synchronized boolean updateFileNode(Path filePath) {
+        if (snapshot == null || !isStudyFile(filePath)) {
+            return false;
+        }
+
+        try {
+            Optional<VaultSource.Entry> entry = vaultSource.stat(filePath);
+            if (entry.isEmpty() || entry.get().directory()) {
                 log.warn("파일이 존재하지 않음: {}", filePath);
-                return;
+                return false;
+            }
+
+            String key = normalizePath(filePath);
+            CategoryNodeDto existing = nodeIndex.get(key);
+            NoteRecordDto record = ingestNote(filePath);
+            CategoryNodeDto fileNode = createFileNode(filePath, entry.get(), record,
+                    existing != null ? existing.getCreatedAt() : null);
+            nodeIndex.put(key, fileNode);
+
+            if (existing != null) {
+                commitChange(filePath.getParent(), existing, fileNode);
+                graphService.upsertNote(fileNode);
+                updateSearchIndex(record);
+                log.info("파일 노드 업데이트: {}", filePath);
+                return false;
             }
 
-            String normalizedPath = filePath.toString().replace('\\', '/');
-            updateNodeRecursively(studyRoot, normalizedPath);
+            attachNode(filePath, fileNode);
+            noteIndexService.register(filePath);
+            graphService.upsertNote(fileNode);
+            updateSearchIndex(record);
+
+            log.info("파일 노드 추가: {}", filePath);
+            return true;
         } catch (Exception e) {
             log.error("노드 업데이트 중 오류 발생: {}", filePath, e);
+            return false;
         }
     }
 
     // 파일 노드를 구조에서 제거
-    public void removeFileNode(String filePath) {
+    // 노트가 제거되었으면 true 반환
+    public synchronized boolean removeFileNode(String filePath) {
         try {
-            String normalizedPath = filePath.replace('\\', '/');
-            removeNodeRecursively(studyRoot, normalizedPath);
+            return removeNode(Paths.get(filePath));
         } catch (Exception e) {
             log.error("노드 제거 중 오류 발생: {}", filePath, e);
+            return false;
         }
     }
 
-    // 재귀적으로 파일 노드 찾아 업데이트
-    private boolean updateNodeRecursively(CategoryNodeDto node, String targetPath) throws IOException {
-        // 자신이 대상 파일인 경우
-        if (!node.isDirectory() && node.getPath().replace('\\', '/').equals(targetPath)) {
-            // 파일 노드 정보 업데이트
-            Path path = Paths.get(node.getPath());
+    // 파일 또는 디렉토리 이름 변경/이동
+    // 이전 경로의 노드를 떼어내고 새 경로에 다시 붙임 (디렉토리는 새 위치의 하위 트리만 스캔)
+    public synchronized void renameNode(Path oldPath, Path newPath) {
+        if (snapshot == null) {
+            return;
+        }
 
-            // 수정 시간 업데이트
-            LocalDateTime lastModified = LocalDateTime.ofInstant(
-                    Files.getLastModifiedTime(path).toInstant(),
-                    ZoneId.systemDefault());
-            node.setLastModified(lastModified);
+        try {
+            removeNode(oldPath);
 
-            // 링크 정보 다시 추출
-            String content = Files.readString(path);
-            List<String> links = extractLinks(content);
-            node.setLinks(links);
+            if (vaultSource.stat(newPath).map(VaultSource.Entry::directory).orElse(false)) {
+                addDirectoryNode(newPath);
+            } else {
+                updateFileNode(newPath);
+            }
 
-            log.info("파일 노드 업데이트: {}", targetPath);
-            return true;
+            log.info("노드 이동: {} -> {}", oldPath, newPath);
+        } catch (Exception e) {
+            log.error("노드 이동 중 오류 발생: {} -> {}", oldPath, newPath, e);
         }
+    }
+
+    // 노드(파일 또는 디렉토리)를 부모에서 떼어내고 색인에서 제거
+    private boolean removeNode(Path path) {
+        if (snapshot == null) {
+            return false;
+        }
+
+        CategoryNodeDto node = nodeIndex.get(normalizePath(path));
+        if (node == null || path.equals(studyDirectoryPath)) {
+            log.debug("구조에 없는 노드 제거 요청 무시: {}", path);
+            return false;
+        }
+        unindexSubtree(node);
+
+        // 이 노드만 남아 있고 파일 시스템에서도 사라진 상위 디렉토리는 함께 제거
+        CategoryNodeDto removed = node;
+        Path parentDirectory = path.getParent();
+        while (!parentDirectory.equals(studyDirectoryPath)) {
+            CategoryNodeDto parent = nodeIndex.get(normalizePath(parentDirectory));
+            if (parent.getChildren().size() > 1 || exists(parentDirectory)) {
+                break;
+            }
+
+            nodeIndex.remove(normalizePath(parentDirectory));
+            log.info("빈 디렉토리 노드 제거: {}", parentDirectory);
+
+            removed = parent;
+            parentDirectory = parentDirectory.getParent();
+        }
+
+        commitChange(parentDirectory, removed, null);
+
+        log.info("{} 노드 제거: {}", node.isDirectory() ? "디렉토리" : "파일", path);
+        return true;
+    }
+
+    // 하위 트리 전체를 노드 색인과 노트 색인에서 제거
+    private void unindexSubtree(CategoryNodeDto node) {
+        nodeIndex.remove(normalizePath(Paths.get(node.getPath())));
 
-        // 디렉토리인 경우 자식들 확인
         if (node.isDirectory()) {
             for (CategoryNodeDto child : node.getChildren()) {
-                if (updateNodeRecursively(child, targetPath)) {
-                    return true;
-                }
+                unindexSubtree(child);
             }
+        } else {
+            noteIndexService.unregister(Paths.get(node.getPath()));
+            graphService.removeNote(node.getPath());
+            searchService.remove(Paths.get(node.getPath()));
         }
+    }
 
-        return false;
+    // 새로 생긴 디렉토리의 하위 트리만 스캔하여 구조에 추가
+    private void addDirectoryNode(Path directory) throws IOException {
+        if (!isStudyFile(directory) || nodeIndex.containsKey(normalizePath(directory))) {
+            return;
+        }
+
+        List<Path> markdownFiles = new ArrayList<>();
+        List<NoteRecordDto> records = new ArrayList<>();
+        CategoryNodeDto directoryNode = processDirectory(
+                toDisplayName(directory.getFileName().toString()), directory, markdownFiles, records, nodeIndex);
+
+        attachNode(directory, directoryNode);
+        markdownFiles.forEach(noteIndexService::register);
+        for (Path file : markdownFiles) {
+            graphService.upsertNote(nodeIndex.get(normalizePath(file)));
+        }
+        records.forEach(searchService::update);
     }
 
-    // 재귀적으로 노드 찾아 제거
-    private boolean removeNodeRecursively(CategoryNodeDto parent, String targetPath) {
-        if (parent.isDirectory()) {
-            List<CategoryNodeDto> children = parent.getChildren();
-            for (int i = 0; i < children.size(); i++) {
-                CategoryNodeDto child = children.get(i);
+    // 검색 색인 갱신 (파일을 읽지 못했으면 이전 내용 유지)
+    private void updateSearchIndex(NoteRecordDto record) {
+        if (record != null) {
+            searchService.update(record);
+        }
+    }
 
-                // 자식이 대상 파일인 경우
-                if (!child.isDirectory() && child.getPath().replace('\\', '/').equals(targetPath)) {
-                    children.remove(i);
-                    log.info("파일 노드 제거: {}", targetPath);
-                    return true;
-                }
+    // 새 노드를 부모 디렉토리에 붙임, 부모가 구조에 없으면 상위부터 함께 생성
+    private void attachNode(Path path, CategoryNodeDto node) {
+        CategoryNodeDto child = node;
+        Path parentDirectory = path.getParent();
 
-                // 자식이 디렉토리인 경우 재귀 호출
-                if (child.isDirectory() && removeNodeRecursively(child, targetPath)) {
-                    return true;
-                }
-            }
+        while (!nodeIndex.containsKey(normalizePath(parentDirectory))) {
+            child = CategoryNodeDto.directory(
+                    toDisplayName(parentDirectory.getFileName().toString()), parentDirectory.toString(), List.of(child));
+            nodeIndex.put(normalizePath(parentDirectory), child);
+            parentDirectory = parentDirectory.getParent();
         }
 
-        return false;
+        commitChange(parentDirectory, null, child);
     }
 
-}
\ No newline at end of file
+    // directory 의 자식 oldChild 를 newChild 로 바꾸고 (null 이면 제거/추가만)
+    // 루트까지 경로상의 디렉토리 노드만 복사한 뒤 새 스냅샷 공개
+    private void commitChange(Path directory, CategoryNodeDto oldChild, CategoryNodeDto newChild) {
+        while (true) {
+            String key = normalizePath(directory);
+            CategoryNodeDto parent = nodeIndex.get(key);
+
+            List<CategoryNodeDto> children = new ArrayList<>(parent.getChildren());
+            if (oldChild != null) {
+                children.remove(oldChild);
+            }
+            if (newChild != null) {
+                int position = Collections.binarySearch(children, newChild, NODE_ORDER);
+                children.add(position < 0 ? -position - 1 : position, newChild);
+            }
+
+            CategoryNodeDto newParent = parent.withChildren(children);
+            nodeIndex.put(key, newParent);
+
+            if (directory.equals(studyDirectoryPath)) {
+                publish(newParent);
+                return;
+            }
+
+            oldChild = parent;
+            newChild = newParent;
+            directory = directory.getParent();
+        }
+    }
+
+    // 스터디 디렉토리 안에 있고 숨김 경로가 아닌지 확인 (processDirectory 와 같은 기준)
+    private boolean isStudyFile(Path path) {
+        if (studyDirectoryPath == null || !path.startsWith(studyDirectoryPath) || path.equals(studyDirectoryPath)) {
+            return false;
+        }
+
+        for (Path segment : studyDirectoryPath.relativize(path)) {
+            if (segment.toString().startsWith(".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
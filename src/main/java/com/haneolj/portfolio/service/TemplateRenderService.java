@@ -0,0 +1,104 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 요청 없이 템플릿을 HTML 로 렌더링 (웹 요청용 엔진과 같은 템플릿 사용)
+// 카테고리 트리 HTML 은 스터디 트리 버전마다 한 번만 렌더링해 모든 페이지에서 재사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TemplateRenderService {
+
+    private final ApplicationContext applicationContext;
+    private final List<ITemplateResolver> templateResolvers;
+
+    // 요청이 없으므로 @{/...} 링크 앞에 붙일 경로를 설정에서 가져옴
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    private SpringTemplateEngine templateEngine;
+
+    // 마지막으로 렌더링한 카테고리 트리 (트리 버전, HTML)
+    private record CategoryTreeHtml(long version, String html) {
+    }
+
+    private volatile CategoryTreeHtml categoryTreeHtml;
+
+    @PostConstruct
+    public void initialize() {
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolvers(new LinkedHashSet<>(templateResolvers));
+        templateEngine.setEnableSpringELCompiler(true);
+        templateEngine.setLinkBuilder(new StandardLinkBuilder() {
+            @Override
+            protected String computeContextPath(IExpressionContext context, String base,
+                    Map<String, Object> parameters) {
+                return contextPath;
+            }
+        });
+    }
+
+    // 페이지 템플릿 전체를 렌더링
+    public String render(String template, Map<String, Object> variables) {
+        return templateEngine.process(template, createContext(variables));
+    }
+
+    // 템플릿 안의 프래그먼트만 렌더링
+    public String render(String template, Set<String> fragments, Map<String, Object> variables) {
+        return templateEngine.process(template, fragments, createContext(variables));
+    }
+
+    private Context createContext(Map<String, Object> variables) {
+        Context context = new Context(Locale.getDefault(), variables);
+        // 템플릿의 @bean 참조(@stringUtils 등)를 위해 스프링 컨텍스트 연결
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, null));
+        return context;
+    }
+
+    // 스냅샷의 카테고리 트리 HTML (현재 문서 표시는 페이지의 category-view.js 에서 적용)
+    public String getCategoryTreeHtml(StudySnapshotDto snapshot) {
+        if (snapshot == null || snapshot.getRoot() == null) {
+            return null;
+        }
+
+        CategoryTreeHtml cached = categoryTreeHtml;
+        if (cached != null && cached.version() == snapshot.getVersion()) {
+            return cached.html();
+        }
+
+        synchronized (this) {
+            cached = categoryTreeHtml;
+            if (cached != null && cached.version() == snapshot.getVersion()) {
+                return cached.html();
+            }
+
+            long startTime = System.nanoTime();
+            String html = render("fragments/category-tree", Set.of("category-tree"),
+                    Map.of("studyRoot", snapshot.getRoot()));
+            categoryTreeHtml = new CategoryTreeHtml(snapshot.getVersion(), html);
+
+            log.info("카테고리 트리 렌더링 완료: 버전 {}, {} 자 ({}ms)",
+                    snapshot.getVersion(), html.length(), (System.nanoTime() - startTime) / 1_000_000);
+            return html;
+        }
+    }
+}
@@ -4,9 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,75 +12,165 @@ import java.util.regex.Pattern;
 @Service
 public class TexService {
 
-    // TeX 표현식 저장용 맵, <토큰, 수식>
-    private final Map<String, String> texTokenMap = new HashMap<>();
-    private int texTokenCounter = 0;
+    // 블럭 수식 패턴 ($$...$$)
+    private static final Pattern DISPLAY_MATH_PATTERN = Pattern.compile("\\$\\$(.*?)\\$\\$", Pattern.DOTALL);
+
+    // 인라인 수식 패턴 ($...$)
+    private static final Pattern INLINE_MATH_PATTERN =
+            Pattern.compile("(?<![\\\\$])\\$(.*?)(?<!\\\\)\\$(?!\\$)", Pattern.DOTALL);
+
+    private static final String TOKEN_PREFIX = "TEX_";
+    private static final String DISPLAY_TOKEN_TYPE = "DISPLAY_";
+    private static final String INLINE_TOKEN_TYPE = "INLINE_";
+    private static final String TOKEN_SUFFIX = "_TOKEN";
+
+    // 렌더링 한 번 동안만 쓰는 TeX 보호 상태
+    // 서비스에는 공유 상태가 없으므로 여러 스레드에서 동시에 호출해도 안전
+    public static final class TexContext {
+        private final List<String> expressions = new ArrayList<>();
+        private final StringBuilder tokenBuffer = new StringBuilder(32);
+        private final String tokenPrefix;
+        private String markdown;
+        private int expressionLength;
+
+        private TexContext(String tokenPrefix) {
+            this.tokenPrefix = tokenPrefix;
+        }
+
+        // 토큰으로 치환된 마크다운
+        public String getMarkdown() {
+            return markdown;
+        }
+
+        // 수식을 저장하고 토큰 반환 (토큰 번호 = 목록 인덱스)
+        private String register(String tokenType, String texExpr) {
+            int index = expressions.size();
+            expressions.add(texExpr);
+            expressionLength += texExpr.length();
+
+            tokenBuffer.setLength(0);
+            return tokenBuffer.append(tokenPrefix).append(tokenType).append(index).append(TOKEN_SUFFIX).toString();
+        }
+    }
 
     // 마크다운에서 TeX 표현식을 찾아 보호 토큰으로 대체
-    public String protectTexExpressions(String markdown) {
-        texTokenMap.clear();
-        texTokenCounter = 0;
+    public TexContext protectTexExpressions(String markdown) {
+        TexContext context = new TexContext(chooseTokenPrefix(markdown));
 
         // 디스플레이 수식 먼저 처리 ($$...$$)
-        markdown = protectDisplayMath(markdown);
+        markdown = protectDisplayMath(markdown, context);
 
         // 인라인 수식 처리 ($...$)
-        markdown = protectInlineMath(markdown);
+        markdown = protectInlineMath(markdown, context);
 
-        return markdown;
+        context.markdown = markdown;
+        return context;
     }
 
     // HTML에서 TeX 토큰을 원래 표현식으로 복원
-    public String restoreTexExpressions(String html) {
-        String result = html;
+    // HTML 을 한 번만 훑으면서 토큰을 만날 때마다 번호로 수식을 찾아 치환
+    public String restoreTexExpressions(String html, TexContext context) {
+        if (context.expressions.isEmpty()) {
+            return html;
+        }
 
-        // 키 길이순으로 정렬하여 긴 토큰부터 처리 (부분 일치 방지)
-        List<String> sortedKeys = new ArrayList<>(texTokenMap.keySet());
-        sortedKeys.sort((a, b) -> Integer.compare(b.length(), a.length()));
+        StringBuilder result = new StringBuilder(html.length() + context.expressionLength);
+        String tokenPrefix = context.tokenPrefix;
+        int copiedUntil = 0;
+        int tokenStart = html.indexOf(tokenPrefix);
 
-        for (String key : sortedKeys) {
-            result = result.replace(key, texTokenMap.get(key));
+        while (tokenStart >= 0) {
+            int tokenEnd = matchToken(html, tokenStart, tokenPrefix, context.expressions.size());
+
+            if (tokenEnd > 0) {
+                int indexStart = html.lastIndexOf('_', tokenEnd - TOKEN_SUFFIX.length() - 1) + 1;
+                int index = Integer.parseInt(html, indexStart, tokenEnd - TOKEN_SUFFIX.length(), 10);
+
+                result.append(html, copiedUntil, tokenStart);
+                result.append(context.expressions.get(index));
+                copiedUntil = tokenEnd;
+                tokenStart = html.indexOf(tokenPrefix, tokenEnd);
+            } else {
+                tokenStart = html.indexOf(tokenPrefix, tokenStart + tokenPrefix.length());
+            }
         }
 
-        return result;
+        result.append(html, copiedUntil, html.length());
+        return result.toString();
+    }
+
+    // 본문에 나오지 않는 토큰 접두사 선택 ("TEX_", "TEX1_", "TEX2_", ...)
+    // 노트에 토큰과 같은 모양의 글자가 있어도 수식으로 바뀌지 않도록 함
+    private String chooseTokenPrefix(String markdown) {
+        String prefix = TOKEN_PREFIX;
+        for (int i = 1; markdown.contains(prefix); i++) {
+            prefix = "TEX" + i + "_";
+        }
+        return prefix;
+    }
+
+    // position 위치에 유효한 토큰이 있으면 토큰 끝 위치, 없으면 -1 반환
+    private int matchToken(String html, int position, String tokenPrefix, int expressionCount) {
+        int cursor = position + tokenPrefix.length();
+
+        if (html.startsWith(DISPLAY_TOKEN_TYPE, cursor)) {
+            cursor += DISPLAY_TOKEN_TYPE.length();
+        } else if (html.startsWith(INLINE_TOKEN_TYPE, cursor)) {
+            cursor += INLINE_TOKEN_TYPE.length();
+        } else {
+            return -1;
+        }
+
+        int digitsStart = cursor;
+        int index = 0;
+        while (cursor < html.length() && Character.isDigit(html.charAt(cursor)) && cursor - digitsStart < 9) {
+            index = index * 10 + (html.charAt(cursor) - '0');
+            cursor++;
+        }
+
+        if (cursor == digitsStart || index >= expressionCount || !html.startsWith(TOKEN_SUFFIX, cursor)) {
+            return -1;
+        }
+
+        return cursor + TOKEN_SUFFIX.length();
     }
 
     // 블럭 수식 보호 ($$...$$)
-    private String protectDisplayMath(String text) {
-        StringBuilder result = new StringBuilder();
-        Pattern regex = Pattern.compile("\\$\\$(.*?)\\$\\$", Pattern.DOTALL);
-        Matcher matcher = regex.matcher(text);
-
-        while (matcher.find()) {
-            String token = "TEX_DISPLAY_" + texTokenCounter++ + "_TOKEN";
-            String texExpr = matcher.group(0);
-            texTokenMap.put(token, texExpr);
-            matcher.appendReplacement(result, Matcher.quoteReplacement(token));
+    private String protectDisplayMath(String text, TexContext context) {
+        Matcher matcher = DISPLAY_MATH_PATTERN.matcher(text);
+        if (!matcher.find()) {
+            return text;
         }
 
+        StringBuilder result = new StringBuilder(text.length());
+        do {
+            String token = context.register(DISPLAY_TOKEN_TYPE, matcher.group(0));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(token));
+        } while (matcher.find());
+
         matcher.appendTail(result);
         return result.toString();
     }
 
     // 인라인 수식 보호 ($...$)
-    private String protectInlineMath(String text) {
-        StringBuilder result = new StringBuilder();
-        Pattern regex = Pattern.compile("(?<![\\\\$])\\$(.*?)(?<!\\\\)\\$(?!\\$)", Pattern.DOTALL);
-        Matcher matcher = regex.matcher(text);
+    private String protectInlineMath(String text, TexContext context) {
+        Matcher matcher = INLINE_MATH_PATTERN.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
 
-        while (matcher.find()) {
+        StringBuilder result = new StringBuilder(text.length());
+        do {
             // 빈 수식은 건너뛰기
             if (matcher.group(1).trim().isEmpty()) {
                 continue;
             }
 
-            String token = "TEX_INLINE_" + texTokenCounter++ + "_TOKEN";
-            String texExpr = matcher.group(0);
-            texTokenMap.put(token, texExpr);
+            String token = context.register(INLINE_TOKEN_TYPE, matcher.group(0));
             matcher.appendReplacement(result, Matcher.quoteReplacement(token));
-        }
+        } while (matcher.find());
 
         matcher.appendTail(result);
         return result.toString();
     }
-}
\ No newline at end of file
+}
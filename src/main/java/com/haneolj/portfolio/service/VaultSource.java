@@ -0,0 +1,39 @@
+package com.haneolj.portfolio.service;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// 노트 파일을 읽어오는 곳 (obsidian.vault.source)
+// worktree: 체크아웃된 작업 트리의 파일, git: 동기화된 커밋의 트리와 blob 을 저장소에서 직접 읽음
+// 경로는 두 방식 모두 "로컬 저장소 경로/상대 경로" 형식 (git 방식에서는 디스크에 없는 가상 경로)
+public interface VaultSource {
+
+    // 디렉토리 항목 하나
+    record Entry(Path path, String name, boolean directory, Instant lastModified, Instant createdAt) {
+    }
+
+    // 디렉토리의 항목 목록 (정렬 안 됨, 숨김 항목 포함)
+    List<Entry> list(Path directory) throws IOException;
+
+    // 경로의 항목 정보 (없으면 빈 값)
+    Optional<Entry> stat(Path path) throws IOException;
+
+    // 노트 내용 읽기 (UTF-8)
+    String read(Path file) throws IOException;
+
+    // 노트 내용의 식별자 (Git blob ID)
+    String contentId(Path file, String content);
+
+    // 내용으로 Git blob ID 계산
+    static String blobId(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, bytes).name();
+    }
+}
@@ -0,0 +1,217 @@
+package com.haneolj.portfolio.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 로컬 파일 시스템 감시 모드 (저장소를 직접 편집하는 서버용, 기본 비활성)
+// 스터디 디렉토리의 변경 이벤트를 짧게 모아 바뀐 경로만 구조/그래프/검색/캐시에 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VaultWatchService {
+
+    private final RepositoryStateService repositoryStateService;
+    private final StudyService studyService;
+
+    @Value("${obsidian.watch.enabled:false}")
+    private boolean enabled;
+
+    // 첫 이벤트 이후 이 시간 동안 들어온 이벤트를 모아 한 번에 반영 (저장 시 임시 파일 생성/이동 등)
+    @Value("${obsidian.watch.debounce-millis:100}")
+    private long debounceMillis;
+
+    @Value("${obsidian.repo.study-path}")
+    private String studyPath;
+
+    @Value("${obsidian.vault.source:worktree}")
+    private String vaultSource;
+
+    private WatchService watchService;
+
+    // <감시 키, 감시 중인 디렉토리> (감시 스레드에서 갱신, 다른 스레드에서 개수 조회)
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+
+    // 애플리케이션 시작 후 감시 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        // Git 객체 DB 에서 읽는 방식에는 감시할 작업 트리가 없음
+        if (!"worktree".equalsIgnoreCase(vaultSource)) {
+            log.warn("파일 감시는 작업 트리 방식(obsidian.vault.source=worktree)에서만 사용할 수 있습니다");
+            return;
+        }
+
+        Path studyDirectory = Paths.get(repositoryStateService.getLocalPath(), studyPath);
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerTree(studyDirectory, null);
+        } catch (IOException e) {
+            log.error("파일 감시 시작 실패: {}: {}", studyDirectory, e.getMessage(), e);
+            return;
+        }
+
+        Thread watchThread = new Thread(this::watchLoop, "vault-watch");
+        watchThread.setDaemon(true);
+        watchThread.start();
+
+        log.info("파일 감시 시작: {} (디렉토리 {} 개, 대기 시간 {}ms)",
+                studyDirectory, watchedDirectories.size(), debounceMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("파일 감시 종료 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    // 이벤트를 받아 대기 시간 동안 모은 뒤 반영
+    private void watchLoop() {
+        Set<Path> pending = new LinkedHashSet<>();
+        boolean overflow = false;
+        long deadline = 0;
+
+        try {
+            while (true) {
+                WatchKey key;
+                if (pending.isEmpty() && !overflow) {
+                    key = watchService.take();
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                }
+
+                if (key == null) {
+                    flush(pending, overflow);
+                    pending = new LinkedHashSet<>();
+                    overflow = false;
+                    continue;
+                }
+
+                if (pending.isEmpty() && !overflow) {
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                }
+                overflow |= collectEvents(key, pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.info("파일 감시 종료");
+        }
+    }
+
+    // 감시 키의 이벤트를 경로 목록에 추가, 이벤트가 유실되었으면 true 반환
+    private boolean collectEvents(WatchKey key, Set<Path> pending) {
+        boolean overflow = false;
+        Path directory = watchedDirectories.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || directory == null) {
+                overflow = true;
+                continue;
+            }
+
+            Path path = directory.resolve((Path) event.context());
+            if (path.getFileName().toString().startsWith(".")) {
+                continue;
+            }
+            pending.add(path);
+
+            // 새 디렉토리는 하위 디렉토리까지 감시 등록
+            // 등록 전에 이미 만들어진 파일은 이벤트가 오지 않으므로 함께 반영
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerTree(path, pending);
+                } catch (IOException e) {
+                    log.warn("새 디렉토리 감시 등록 실패: {}: {}", path, e.getMessage());
+                }
+            }
+        }
+
+        // 삭제된 디렉토리의 키는 더 이상 유효하지 않음
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+        return overflow;
+    }
+
+    // 모은 경로를 한 번에 반영 (이벤트 유실 시 로컬 기준 전체 재구성)
+    private void flush(Set<Path> pending, boolean overflow) {
+        long startTime = System.nanoTime();
+
+        try {
+            if (overflow) {
+                log.warn("파일 감시 이벤트 유실, 전체 재구성");
+                studyService.rebuildStudyStructure();
+            } else {
+                studyService.applyChangedPaths(pending);
+            }
+        } catch (Exception e) {
+            log.error("파일 변경 반영 중 오류 발생: {}", e.getMessage(), e);
+        }
+
+        log.debug("파일 변경 {} 건 반영 ({}us)", pending.size(), (System.nanoTime() - startTime) / 1_000);
+    }
+
+    // 디렉토리와 모든 하위 디렉토리를 감시 등록 (숨김 디렉토리 제외)
+    // existingFiles 가 주어지면 이미 있는 파일을 추가
+    private void registerTree(Path root, Set<Path> existingFiles) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                if (!directory.equals(root) && directory.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
+                WatchKey key = directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.put(key, directory);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (existingFiles != null && !file.getFileName().toString().startsWith(".")) {
+                    existingFiles.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -1,152 +1,177 @@
 package com.haneolj.portfolio.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haneolj.portfolio.dto.WebhookJobDto;
+import com.haneolj.portfolio.dto.WebhookQueueStatusDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebhookService {
 
-    private final ObjectMapper objectMapper;
-    private final GitService gitService;
+    private final RepositoryStateService repositoryStateService;
     private final StudyService studyService;
-    private final GraphService graphService;
 
-    @Value("${obsidian.repo.study-path}")
-    private String studyPath;
-
-    // GitHub 웹훅 페이로드에서 변경된 파일 목록 추출
-    public List<String> extractChangedFilesFromPayload(byte[] payload) {
-        Set<String> changedFiles = new HashSet<>();
-        try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
-
-            // commits에서 변경된 파일 목록 수집
-            JsonNode commits = jsonNode.path("commits");
-            if (commits.isArray()) {
-                for (JsonNode commit : commits) {
-                    // 추가된 파일
-                    addFilesFromJsonArray(changedFiles, commit.path("added"));
-
-                    // 수정된 파일
-                    addFilesFromJsonArray(changedFiles, commit.path("modified"));
-
-                    // 삭제된 파일
-                    addFilesFromJsonArray(changedFiles, commit.path("removed"));
-                }
-            }
-        } catch (Exception e) {
-            log.error("페이로드에서 변경된 파일 목록 추출 중 오류 발생: {}", e.getMessage(), e);
+    // 첫 이벤트 이후 이 시간 동안 들어온 이벤트를 모아 한 번에 동기화
+    @Value("${obsidian.webhook.debounce-millis:2000}")
+    private long debounceMillis;
+
+    // 상태 조회용으로 보관할 최근 작업 수
+    private static final int MAX_RECENT_JOBS = 100;
+
+    // 동기화는 이 스레드 하나에서만 순서대로 실행
+    private ScheduledExecutorService syncExecutor;
+
+    // 아래 필드는 synchronized (this) 안에서만 사용
+    private final List<WebhookJob> pendingJobs = new ArrayList<>();
+    private boolean drainScheduled;
+    private long jobCounter;
+    private long batchCount;
+    private long coalescedEventCount;
+    private long lastBatchDurationMillis = -1;
+
+    // <작업 ID, 작업> (오래된 작업부터 제거)
+    private final Map<Long, WebhookJob> recentJobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, WebhookJob> eldest) {
+            return size() > MAX_RECENT_JOBS;
+        }
+    };
+
+    // 웹훅 이벤트 하나의 처리 상태
+    private static final class WebhookJob {
+        private final long id;
+        private final LocalDateTime receivedAt = LocalDateTime.now();
+        private String state = "QUEUED";
+        private int changedFileCount;
+        private boolean fullRefresh;
+        private long batchId;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private String error;
+
+        private WebhookJob(long id) {
+            this.id = id;
         }
-        return new ArrayList<>(changedFiles);
-    }
 
-    private void addFilesFromJsonArray(Set<String> fileList, JsonNode jsonArray) {
-        if (jsonArray.isArray()) {
-            for (JsonNode file : jsonArray) {
-                fileList.add(file.asText());
-            }
+        private WebhookJobDto toDto() {
+            return new WebhookJobDto(id, state, changedFileCount, fullRefresh, batchId,
+                    receivedAt, startedAt, finishedAt, error);
         }
     }
 
-    // 변경된 파일 목록을 기반으로 필요한 캐시만 갱신
-    public void processChangedFiles(List<String> changedFiles) {
-        log.info("변경된 파일 처리 시작 (총 {}개)", changedFiles.size());
-
-        // Git 저장소 경로 가져오기
-        String repoPath = gitService.ensureRepository();
+    @PostConstruct
+    public void initialize() {
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webhook-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("웹훅 동기화 대기열 설정: 대기 시간 {}ms", debounceMillis);
+    }
 
-        // 스터디 관련 파일만 필터링
-        List<Path> studyFiles = filterStudyFiles(changedFiles, repoPath);
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
 
-        if (studyFiles.isEmpty()) {
-            log.info("스터디 관련 변경 파일 없음, 처리 종료");
-            return;
+    // 웹훅 이벤트를 동기화 대기열에 추가하고 바로 반환
+    // 변경 내용은 페이로드 대신 동기화 전후 커밋 비교로 구하므로 이벤트는 동기화 요청 역할만 함
+    public synchronized WebhookJobDto enqueue() {
+        WebhookJob job = new WebhookJob(++jobCounter);
+        recentJobs.put(job.id, job);
+        pendingJobs.add(job);
+
+        // 대기 시간은 배치의 첫 이벤트부터 계산 (이벤트가 계속 들어와도 지연이 늘어나지 않음)
+        if (!drainScheduled) {
+            drainScheduled = true;
+            syncExecutor.schedule(this::drain, debounceMillis, TimeUnit.MILLISECONDS);
         }
 
-        // 변경 파일 중에 디렉토리 구조 변경이 있는지 확인
-        boolean hasStructureChanges = checkForStructureChanges(changedFiles);
-
-        if (hasStructureChanges) {
-            // 구조 변경이 있으면 전체 새로고침
-            log.info("디렉토리 구조 변경 감지, 전체 새로고침 수행");
-            studyService.refreshStudyStructure();
-
-            // 그래프 데이터도 갱신
-            graphService.refreshGraphData();
-        } else {
-            // 개별 파일만 새로고침
-            log.info("개별 파일만 새로고침 ({}개)", studyFiles.size());
-
-            // 각 파일에 대해 캐시 제거
-            for (Path filePath : studyFiles) {
-                studyService.refreshFileCache(filePath.toString());
-
-                // 파일이 존재하면 노드 업데이트, 없으면 노드 제거
-                if (Files.exists(filePath)) {
-                    studyService.updateFileNode(filePath);
-                } else {
-                    studyService.removeFileNode(filePath.toString());
-                }
-            }
-
-            // 마크다운 파일 변경 시 그래프 데이터도 갱신
-            boolean hasMdChanges = studyFiles.stream()
-                    .anyMatch(path -> path.toString().endsWith(".md"));
-
-            if (hasMdChanges) {
-                log.info("마크다운 파일 변경 감지, 그래프 데이터 갱신");
-                graphService.refreshGraphData();
-            }
-        }
+        log.info("웹훅 작업 #{} 대기열 추가 (대기 중인 이벤트 {}개)", job.id, pendingJobs.size());
+        return job.toDto();
+    }
 
-        log.info("변경된 파일 처리 완료");
+    // 작업 하나의 상태 (오래되어 목록에서 빠졌으면 null)
+    public synchronized WebhookJobDto getJob(long id) {
+        WebhookJob job = recentJobs.get(id);
+        return job != null ? job.toDto() : null;
     }
 
-    private List<Path> filterStudyFiles(List<String> changedFiles, String repoPath) {
-        List<Path> studyFiles = new ArrayList<>();
-        String studyPathNormalized = studyPath.replace('\\', '/');
+    // 대기열 상태와 최근 작업 목록
+    public synchronized WebhookQueueStatusDto getQueueStatus() {
+        List<WebhookJobDto> jobs = new ArrayList<>(recentJobs.size());
+        recentJobs.values().forEach(job -> jobs.add(job.toDto()));
+        Collections.reverse(jobs);
 
-        for (String file : changedFiles) {
-            String normalizedPath = file.replace('\\', '/');
+        return new WebhookQueueStatusDto(debounceMillis, pendingJobs.size(), batchCount, coalescedEventCount, lastBatchDurationMillis, jobs);
+    }
 
-            // 스터디 경로 내 마크다운 파일만 처리
-            if (normalizedPath.startsWith(studyPathNormalized) && normalizedPath.endsWith(".md")) {
-                Path fullPath = Paths.get(repoPath, normalizedPath);
-                studyFiles.add(fullPath);
+    // 대기 중인 이벤트를 모두 꺼내 한 번의 pull 과 커밋 비교로 처리 (동기화 스레드에서 실행)
+    // 처리 중에 들어온 이벤트는 다음 배치로 모임
+    private void drain() {
+        List<WebhookJob> jobs;
+        long batchId;
+
+        synchronized (this) {
+            jobs = new ArrayList<>(pendingJobs);
+            batchId = ++batchCount;
+            coalescedEventCount += Math.max(0, jobs.size() - 1);
+
+            pendingJobs.clear();
+            drainScheduled = false;
+
+            LocalDateTime now = LocalDateTime.now();
+            for (WebhookJob job : jobs) {
+                job.state = "RUNNING";
+                job.batchId = batchId;
+                job.startedAt = now;
             }
         }
 
-        return studyFiles;
-    }
+        log.info("웹훅 배치 #{} 처리 시작 (이벤트 {}개)", batchId, jobs.size());
+        long startTime = System.currentTimeMillis();
+        int changedNotes = 0;
+        String error = null;
 
-    private boolean checkForStructureChanges(List<String> changedFiles) {
-        // 디렉토리 구조 변경으로 간주할 조건:
-        // 1. .md가 아닌 파일이 변경됨 (설정 파일 등)
-        // 2. 파일 삭제/추가 (수정은 구조 변경으로 간주하지 않음)
-
-        for (String file : changedFiles) {
-            // 마크다운 파일이 아닌 경우
-            if (!file.endsWith(".md")) {
-                return true;
+        try {
+            RepositoryStateService.HeadChange heads = repositoryStateService.syncHeads("webhook");
+            if (heads.changed()) {
+                changedNotes = studyService.applyCommitDiff(heads.before(), heads.after());
+            } else {
+                log.info("새 커밋 없음, 구조 변경 없음");
             }
-
-            // 여기에 필요하면 다른 조건 추가
+        } catch (Exception e) {
+            log.error("웹훅 배치 #{} 처리 중 오류 발생: {}", batchId, e.getMessage(), e);
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
         }
 
-        return false;
+        synchronized (this) {
+            lastBatchDurationMillis = System.currentTimeMillis() - startTime;
+            LocalDateTime now = LocalDateTime.now();
+            for (WebhookJob job : jobs) {
+                job.state = error == null ? "DONE" : "FAILED";
+                job.finishedAt = now;
+                job.error = error;
+                job.changedFileCount = Math.max(0, changedNotes);
+                job.fullRefresh = changedNotes < 0;
+            }
+            log.info("웹훅 배치 #{} 처리 완료 ({}ms)", batchId, lastBatchDurationMillis);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.haneolj.portfolio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 체크아웃된 작업 트리에서 노트 읽기 (기본값)
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "obsidian.vault.source", havingValue = "worktree", matchIfMissing = true)
+public class WorkingTreeVaultSource implements VaultSource {
+
+    // 항목마다 파일 속성은 한 번만 읽음
+    @Override
+    public List<Entry> list(Path directory) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                try {
+                    entries.add(toEntry(path, Files.readAttributes(path, BasicFileAttributes.class)));
+                } catch (IOException e) {
+                    // 깨진 심볼릭 링크 등
+                    log.warn("파일 속성 읽기 오류: {}: {}", path, e.getMessage());
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<Entry> stat(Path path) throws IOException {
+        try {
+            return Optional.of(toEntry(path, Files.readAttributes(path, BasicFileAttributes.class)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String contentId(Path file, String content) {
+        return VaultSource.blobId(content);
+    }
+
+    private Entry toEntry(Path path, BasicFileAttributes attributes) {
+        Path fileName = path.getFileName();
+        return new Entry(path, fileName != null ? fileName.toString() : path.toString(), attributes.isDirectory(),
+                attributes.lastModifiedTime().toInstant(), attributes.creationTime().toInstant());
+    }
+}
@@ -3,7 +3,11 @@ package com.haneolj.portfolio.util;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
 
 @Component
 public class StringUtils {
@@ -21,4 +25,19 @@ public class StringUtils {
         }
         return new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
     }
+
+    // 노트 페이지 URL 의 식별자 (/study/view/<식별자>, 파일 전체 경로 SHA-256 의 앞 16바이트를 소문자 16진수로)
+    // 경로가 길어도 32자라 내보내기 디렉토리 이름 제한(255바이트)을 넘지 않고, 대소문자 구분 없는 파일 시스템에서도 겹치지 않음
+    // 식별자에서 경로로의 변환은 NoteIndexService 에서 조회
+    public String toPageId(String path) {
+        if (path == null) {
+            return "";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(path.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
 }
\ No newline at end of file
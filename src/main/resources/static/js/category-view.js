@@ -50,107 +50,36 @@ document.addEventListener('DOMContentLoaded', function() {
   addActiveFileStyles();
 });
 
-// 현재 문서 경로를 찾아서 하이라이트하고 펼치는 함수
+// 현재 문서를 찾아서 하이라이트하고 펼치는 함수
+// 주소의 마지막 경로는 노트 파일 경로로 만든 페이지 식별자
 function findAndHighlightCurrentPath() {
-  try {
-    const match = window.location.pathname.match(/\/study\/view\/([^/]+)/);
-    if (!match || !match[1]) {
-      console.error('URL에서 인코딩된 경로를 찾을 수 없습니다.');
-      return;
-    }
-
-    const encodedPath = match[1];
-    console.log('URL에서 추출한 인코딩된 경로:', encodedPath);
-
-    // Base64 디코딩 시도
-    let decodedPath;
-    try {
-      const base64Safe = encodedPath.replace(/-/g, '+').replace(/_/g, '/');
-      decodedPath = atob(base64Safe);
-      console.log('Base64 디코딩 결과:', decodedPath);
-    } catch (e) {
-      console.warn('Base64 디코딩 실패:', e);
-      console.log('URL 디코딩 시도...');
-
-      decodedPath = decodeURIComponent(encodedPath);
-      console.log('URL 디코딩 결과:', decodedPath);
-    }
+  const match = window.location.pathname.match(/\/study\/view\/([^/]+)/);
+  const pageId = match ? match[1] : null;
 
-    if (!decodedPath) {
-      console.error('경로 디코딩 실패');
+  let foundMatch = false;
+  document.querySelectorAll('.category-file').forEach(fileItem => {
+    if (!pageId || fileItem.getAttribute('data-page-id') !== pageId) {
       return;
     }
+    foundMatch = true;
 
-    // 모든 카테고리 파일 항목 순회
-    let foundMatch = false;
-    const fileItems = document.querySelectorAll('.category-file');
-    console.log('총 파일 항목 수:', fileItems.length);
+    // 현재 파일 항목에 active 클래스 추가
+    fileItem.classList.add('active');
 
-    fileItems.forEach(fileItem => {
-      const dataPath = fileItem.getAttribute('data-path');
-      const href = fileItem.getAttribute('href');
-
-      console.log(`파일 항목 검사 - href: ${href}, data-path: ${dataPath}`);
-
-      // 현재 경로 포함 여부 확인 (여러 방식으로 시도)
-      const isCurrentFile =
-          (dataPath && dataPath === decodedPath) ||
-          (dataPath && decodedPath.includes(dataPath)) ||
-          (href && href.includes(encodedPath));
-
-      if (isCurrentFile) {
-        console.log('현재 파일 찾음:', dataPath);
-        foundMatch = true;
-
-        // 현재 파일 항목에 active 클래스 추가
-        fileItem.classList.add('active');
+    // 현재 파일의 모든 상위 디렉토리 펼치기
+    let parent = fileItem.closest('.category-item');
+    while (parent) {
+      parent.classList.remove('collapsed');
+      parent = parent.parentElement ? parent.parentElement.closest('.category-item') : null;
+    }
+  });
 
-        // 현재 파일의 모든 상위 디렉토리 펼치기
-        let parent = fileItem.closest('.category-item');
-        while (parent) {
-          parent.classList.remove('collapsed');
-          console.log('상위 디렉토리 펼침:', parent);
-          parent = parent.parentElement ? parent.parentElement.closest('.category-item') : null;
-        }
-      }
+  // 일치하는 항목을 찾지 못한 경우 최상위 디렉토리만 펼치기
+  if (!foundMatch) {
+    const rootItems = document.querySelectorAll('.category-tree > .category-item');
+    rootItems.forEach(item => {
+      item.classList.remove('collapsed');
     });
-
-    if (!foundMatch) {
-      console.warn('현재 문서와 일치하는 카테고리 항목을 찾지 못했습니다.');
-
-      // 파일명 부분 비교로 다시 시도
-      fileItems.forEach(fileItem => {
-        const dataPath = fileItem.getAttribute('data-path');
-        if (!dataPath) return;
-
-        // 파일명만 추출하여 비교
-        const itemFileName = dataPath.split('/').pop().split('\\').pop();
-        const currentFileName = decodedPath.split('/').pop().split('\\').pop();
-
-        if (itemFileName === currentFileName) {
-          console.log('파일명 일치하는 항목 찾음:', dataPath);
-          fileItem.classList.add('active');
-
-          // 상위 디렉토리 펼치기
-          let parent = fileItem.closest('.category-item');
-          while (parent) {
-            parent.classList.remove('collapsed');
-            parent = parent.parentElement ? parent.parentElement.closest('.category-item') : null;
-          }
-          foundMatch = true;
-        }
-      });
-
-      // 여전히 일치하는 항목을 찾지 못한 경우 최상위 디렉토리만 펼치기
-      if (!foundMatch) {
-        const rootItems = document.querySelectorAll('.category-tree > .category-item');
-        rootItems.forEach(item => {
-          item.classList.remove('collapsed');
-        });
-      }
-    }
-  } catch (error) {
-    console.error('경로 처리 중 오류 발생:', error);
   }
 }
 
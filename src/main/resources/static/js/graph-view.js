@@ -63,27 +63,45 @@ function initGraphVisualization() {
   });
 }
 
-// 서버 API에서 그래프 데이터 가져오기
+// 서버 API에서 그래프 데이터 가져오기 (열 단위 형식)
 async function fetchGraphData() {
   try {
-    const response = await fetch('/api/study/graph');
+    const response = await fetch('/api/study/graph?format=columnar');
+
+    if (response.status === 204) {
+      // 204 No Content는 데이터가 없는 경우
+      console.log('그래프 데이터가 없습니다.');
+      return { nodes: [], links: [] };
+    }
 
     if (!response.ok) {
-      if (response.status === 204) {
-        // 204 No Content는 데이터가 없는 경우
-        console.log('그래프 데이터가 없습니다.');
-        return { nodes: [], links: [] };
-      }
       throw new Error(`API 오류: ${response.status}`);
     }
 
-    return await response.json();
+    return fromColumnar(await response.json());
   } catch (error) {
     console.error('그래프 데이터 fetch 오류:', error);
     throw error;
   }
 }
 
+// 열 단위 배열을 노드/링크 객체 목록으로 변환
+function fromColumnar(data) {
+  const nodes = data.ids.map((id, i) => ({
+    id: 'node-' + id,
+    name: data.names[i],
+    encodedPath: data.slugs[i]
+  }));
+
+  const links = data.source.map((source, i) => ({
+    source: nodes[source].id,
+    target: nodes[data.target[i]].id,
+    value: 1
+  }));
+
+  return { version: data.version, nodes, links };
+}
+
 // 그래프 렌더링 함수
 function renderGraph(graphData, g, svg, width, height) {
   const nodes = graphData.nodes;
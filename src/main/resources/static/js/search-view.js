@@ -0,0 +1,72 @@
+document.addEventListener('DOMContentLoaded', function() {
+  const input = document.getElementById('study-search-input');
+  const resultList = document.getElementById('study-search-results');
+  if (!input || !resultList) return;
+
+  // 카테고리 트리 링크와 같은 기준 경로 사용 (끝의 / 제거)
+  const contextMeta = document.querySelector('meta[name="context-path"]');
+  const basePath = (contextMeta ? contextMeta.content : '/').replace(/\/$/, '');
+
+  let timer = null;
+  let controller = null;
+
+  // 입력이 멈춘 뒤 검색 (이전 요청은 취소)
+  input.addEventListener('input', function() {
+    clearTimeout(timer);
+    timer = setTimeout(() => search(input.value.trim()), 200);
+  });
+
+  async function search(query) {
+    if (controller) controller.abort();
+
+    if (!query) {
+      resultList.innerHTML = '';
+      return;
+    }
+
+    controller = new AbortController();
+    try {
+      const response = await fetch(`${basePath}/api/study/search?q=` + encodeURIComponent(query),
+          { signal: controller.signal });
+      if (!response.ok) {
+        throw new Error(`API 오류: ${response.status}`);
+      }
+      renderResults(await response.json());
+    } catch (error) {
+      if (error.name !== 'AbortError') {
+        console.error('검색 오류:', error);
+      }
+    }
+  }
+
+  function renderResults(data) {
+    resultList.innerHTML = '';
+
+    if (!data.results || data.results.length === 0) {
+      const empty = document.createElement('li');
+      empty.textContent = '검색 결과가 없습니다.';
+      resultList.appendChild(empty);
+      return;
+    }
+
+    data.results.forEach(result => {
+      const item = document.createElement('li');
+
+      const link = document.createElement('a');
+      link.href = `${basePath}/study/view/${result.pageId}`;
+      link.className = 'category-file';
+      link.textContent = result.name;
+      item.appendChild(link);
+
+      // 스니펫은 서버에서 이스케이프 후 <mark> 만 추가된 HTML
+      if (result.snippet) {
+        const snippet = document.createElement('p');
+        snippet.className = 'search-snippet';
+        snippet.innerHTML = result.snippet;
+        item.appendChild(snippet);
+      }
+
+      resultList.appendChild(item);
+    });
+  }
+});
@@ -0,0 +1,134 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.config.SecurityConfig;
+import com.haneolj.portfolio.dto.GraphFormat;
+import com.haneolj.portfolio.dto.GraphPayloadDto;
+import com.haneolj.portfolio.service.GraphService;
+import com.haneolj.portfolio.service.NoteIndexService;
+import com.haneolj.portfolio.service.StudyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = GraphController.class)
+@Import(SecurityConfig.class)
+class GraphControllerTest {
+
+    private static final byte[] BODY = "{\"nodes\":[]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP_BODY = {0x1f, (byte) 0x8b, 1, 2, 3};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GraphService graphService;
+
+    @MockitoBean
+    private StudyService studyService;
+
+    @MockitoBean
+    private NoteIndexService noteIndexService;
+
+    @BeforeEach
+    void setUp() {
+        when(graphService.getGraphPayload(any())).thenReturn(payload(1, "v1"));
+    }
+
+    @Test
+    void graphIsServedWithEtag() throws Exception {
+        mockMvc.perform(get("/api/study/graph"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().contentType(GraphFormat.JSON.getMediaType()))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+        mockMvc.perform(get("/api/study/graph").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void staleEtagReturnsNewBody() throws Exception {
+        mockMvc.perform(get("/api/study/graph").header(HttpHeaders.IF_NONE_MATCH, "\"v0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+    }
+
+    @Test
+    void gzipBodyHasItsOwnEtag() throws Exception {
+        mockMvc.perform(get("/api/study/graph").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1-gzip\""))
+                .andExpect(content().bytes(GZIP_BODY));
+
+        // 압축하지 않은 본문의 ETag 로는 gzip 응답을 재사용할 수 없음
+        mockMvc.perform(get("/api/study/graph")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/study/graph")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1-gzip\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void gzipWithZeroQualityIsNotUsed() throws Exception {
+        mockMvc.perform(get("/api/study/graph").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    void formatParameterSelectsRepresentation() throws Exception {
+        mockMvc.perform(get("/api/study/graph").param("format", "columnar"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(GraphFormat.COLUMNAR.getMediaType()));
+
+        mockMvc.perform(get("/api/study/graph").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void emptyGraphHasNoContent() throws Exception {
+        when(graphService.getGraphPayload(any())).thenReturn(payload(0, "v0"));
+
+        mockMvc.perform(get("/api/study/graph"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void unknownNeighborNoteIsNotFound() throws Exception {
+        when(noteIndexService.findByPageId("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/study/graph/neighbors").param("note", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static GraphPayloadDto payload(int nodeCount, String etag) {
+        return new GraphPayloadDto(1, nodeCount, BODY, GZIP_BODY, etag, Instant.parse("2025-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.config.SecurityConfig;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import com.haneolj.portfolio.service.GraphService;
+import com.haneolj.portfolio.service.MarkdownService;
+import com.haneolj.portfolio.service.NoteIndexService;
+import com.haneolj.portfolio.service.StudyService;
+import com.haneolj.portfolio.service.TemplateRenderService;
+import com.haneolj.portfolio.util.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+@WebMvcTest(controllers = MarkdownController.class, properties = "app.version=1.0.0")
+@Import({SecurityConfig.class, StringUtils.class})
+class MarkdownControllerTest {
+
+    private static final String NOTE_PATH = "/vault/Study/note.md";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StringUtils stringUtils;
+
+    @MockitoBean
+    private MarkdownService markdownService;
+
+    @MockitoBean
+    private StudyService studyService;
+
+    @MockitoBean
+    private GraphService graphService;
+
+    @MockitoBean
+    private TemplateRenderService templateRenderService;
+
+    @MockitoBean
+    private NoteIndexService noteIndexService;
+
+    private String pageId;
+
+    @BeforeEach
+    void setUp() {
+        pageId = stringUtils.toPageId(NOTE_PATH);
+        when(noteIndexService.findByPageId(anyString())).thenReturn(Optional.empty());
+        when(noteIndexService.findByPageId(pageId)).thenReturn(Optional.of(NOTE_PATH));
+        when(studyService.getContentId(NOTE_PATH)).thenReturn("c1");
+        when(studyService.getStudySnapshot()).thenReturn(new StudySnapshotDto(7, null, UPDATED_AT));
+    }
+
+    @Test
+    void matchingEtagSkipsMarkdownProcessing() throws Exception {
+        mockMvc.perform(get("/study/view/" + pageId).header(HttpHeaders.IF_NONE_MATCH, "\"c1-7-1.0.0\""))
+                .andExpect(status().isNotModified());
+
+        verify(markdownService, never()).readMarkdownFile(any());
+        verify(templateRenderService, never()).getCategoryTreeHtml(any());
+    }
+
+    @Test
+    void newTreeVersionInvalidatesEtag() throws Exception {
+        // 다른 노트가 바뀌어 사이드바/백링크가 달라지면 같은 노트라도 다시 렌더링
+        when(studyService.getStudySnapshot()).thenReturn(new StudySnapshotDto(8, null, UPDATED_AT));
+        when(markdownService.readMarkdownFile(any())).thenReturn("# note");
+        when(markdownService.convertToHtml(any(), anyString())).thenReturn("<h1>note</h1>");
+
+        mockMvc.perform(get("/study/view/" + pageId).header(HttpHeaders.IF_NONE_MATCH, "\"c1-7-1.0.0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"c1-8-1.0.0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(view().name("study/markdown-view"));
+
+        verify(markdownService).readMarkdownFile(any());
+    }
+
+    @Test
+    void unknownPageIdIsNotFound() throws Exception {
+        mockMvc.perform(get("/study/view/0123456789abcdef0123456789abcdef"))
+                .andExpect(status().isNotFound())
+                .andExpect(view().name("error/generic"));
+
+        verify(markdownService, never()).readMarkdownFile(any());
+    }
+
+    @Test
+    void legacyBase64LinkRedirectsToPageId() throws Exception {
+        String legacyId = stringUtils.encodeBase64Url(NOTE_PATH);
+
+        mockMvc.perform(get("/study/view/" + legacyId))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/view/" + pageId));
+    }
+}
@@ -0,0 +1,68 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.config.SecurityConfig;
+import com.haneolj.portfolio.service.CacheStatsService;
+import com.haneolj.portfolio.service.MarkdownPrecacheService;
+import com.haneolj.portfolio.service.RenderStoreService;
+import com.haneolj.portfolio.service.RepositoryStateService;
+import com.haneolj.portfolio.service.WebhookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = StatusController.class, properties = "app.status-token=secret")
+@Import(SecurityConfig.class)
+class StatusSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RepositoryStateService repositoryStateService;
+
+    @MockitoBean
+    private MarkdownPrecacheService markdownPrecacheService;
+
+    @MockitoBean
+    private CacheStatsService cacheStatsService;
+
+    @MockitoBean
+    private RenderStoreService renderStoreService;
+
+    @MockitoBean
+    private WebhookService webhookService;
+
+    @Test
+    void statusIsForbiddenWithoutToken() throws Exception {
+        mockMvc.perform(get("/api/status/caches")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void statusIsForbiddenWithWrongToken() throws Exception {
+        mockMvc.perform(get("/api/status/caches").header(HttpHeaders.AUTHORIZATION, "Bearer wrong"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void statusIsAvailableWithToken() throws Exception {
+        when(cacheStatsService.getCacheStats()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/status/caches").header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void webhookJobsAreForbiddenWithoutToken() throws Exception {
+        mockMvc.perform(get("/api/webhook/jobs/1")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,58 @@
+package com.haneolj.portfolio.controller;
+
+import com.haneolj.portfolio.config.SecurityConfig;
+import com.haneolj.portfolio.dto.WebhookJobDto;
+import com.haneolj.portfolio.service.WebhookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = WebhookController.class,
+        properties = {"github.webhook.secret=secret", "obsidian.repo.branch=main"})
+@Import(SecurityConfig.class)
+class WebhookControllerTest {
+
+    private static final String PAYLOAD = "{\"ref\":\"refs/heads/main\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WebhookService webhookService;
+
+    @Test
+    void jobLocationIncludesContextPath() throws Exception {
+        WebhookJobDto job = mock(WebhookJobDto.class);
+        when(job.getId()).thenReturn(7L);
+        when(webhookService.enqueue()).thenReturn(job);
+
+        mockMvc.perform(post("/blog/api/webhook/github")
+                        .contextPath("/blog")
+                        .header("X-GitHub-Event", "push")
+                        .header("X-Hub-Signature-256", sign(PAYLOAD))
+                        .content(PAYLOAD))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/blog/api/webhook/jobs/7"));
+    }
+
+    private static String sign(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec("secret".getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,141 @@
+package com.haneolj.portfolio.service;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GitHistoryServiceTest {
+
+    @TempDir
+    Path repositoryRoot;
+
+    private Git git;
+    private GitService gitService;
+    private RepositoryStateService repositoryStateService;
+    private GitHistoryService gitHistoryService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        git = Git.init().setDirectory(repositoryRoot.toFile()).setInitialBranch("main").call();
+
+        gitService = mock(GitService.class);
+        when(gitService.withReader(any())).thenAnswer(invocation -> {
+            GitService.ReaderCallback<?> callback = invocation.getArgument(0);
+            try (ObjectReader reader = git.getRepository().newObjectReader()) {
+                return callback.apply(git.getRepository(), reader);
+            }
+        });
+
+        repositoryStateService = mock(RepositoryStateService.class);
+        when(repositoryStateService.getLocalPath()).thenReturn(repositoryRoot.toString());
+
+        gitHistoryService = new GitHistoryService(gitService, repositoryStateService);
+        ReflectionTestUtils.setField(gitHistoryService, "studyPath", "Study");
+    }
+
+    @AfterEach
+    void tearDown() {
+        git.close();
+    }
+
+    @Test
+    void fullWalkRecordsFirstAndLastCommitTimes() throws Exception {
+        write("Study/A.md", "a");
+        commit(1_000);
+        write("Study/A.md", "a2");
+        RevCommit head = commit(2_000);
+        moveHead(head);
+
+        assertThat(created("Study/A.md")).isEqualTo(at(1_000));
+        assertThat(gitHistoryService.getLastCommitTime(repositoryRoot.resolve("Study/A.md")))
+                .isEqualTo(Instant.ofEpochSecond(2_000));
+    }
+
+    @Test
+    void pathsOutsideStudyDirectoryAreIgnored() throws Exception {
+        write("Other/A.md", "a");
+        moveHead(commit(1_000));
+
+        assertThat(gitHistoryService.getLastCommitTime(repositoryRoot.resolve("Other/A.md"))).isNull();
+    }
+
+    @Test
+    void incrementalWalkOnlyAddsNewCommits() throws Exception {
+        write("Study/A.md", "a");
+        moveHead(commit(1_000));
+        assertThat(created("Study/A.md")).isEqualTo(at(1_000));
+
+        write("Study/A.md", "a2");
+        write("Study/B.md", "b");
+        moveHead(commit(3_000));
+
+        assertThat(created("Study/A.md")).isEqualTo(at(1_000));
+        assertThat(created("Study/B.md")).isEqualTo(at(3_000));
+        assertThat(gitHistoryService.getLastCommitTime(repositoryRoot.resolve("Study/A.md")))
+                .isEqualTo(Instant.ofEpochSecond(3_000));
+        // 첫 색인과 증분 색인 한 번씩
+        verify(gitService, times(2)).withReader(any());
+    }
+
+    @Test
+    void rewrittenHistoryIsReindexedFromScratch() throws Exception {
+        write("Study/A.md", "a");
+        commit(1_000);
+        write("Study/B.md", "b");
+        moveHead(commit(2_000));
+        assertThat(created("Study/A.md")).isEqualTo(at(1_000));
+
+        // 강제 푸시: 이전 커밋은 객체 DB 에 남아 있지만 새 HEAD 의 조상이 아님
+        git.checkout().setOrphan(true).setName("rewritten").call();
+        git.rm().addFilepattern("Study/B.md").call();
+        moveHead(commit(5_000));
+
+        assertThat(created("Study/A.md")).isEqualTo(at(5_000));
+        assertThat(gitHistoryService.getLastCommitTime(repositoryRoot.resolve("Study/B.md"))).isNull();
+    }
+
+    private LocalDateTime created(String relativePath) {
+        return gitHistoryService.getFileCreationDate(repositoryRoot.resolve(relativePath));
+    }
+
+    private LocalDateTime at(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+
+    private void write(String relativePath, String content) throws Exception {
+        Path file = repositoryRoot.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        git.add().addFilepattern(relativePath).call();
+    }
+
+    private RevCommit commit(long epochSecond) throws Exception {
+        PersonIdent ident = new PersonIdent("tester", "tester@example.com",
+                Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+        return git.commit().setMessage("commit " + epochSecond).setAuthor(ident).setCommitter(ident).call();
+    }
+
+    private void moveHead(RevCommit commit) {
+        when(repositoryStateService.getHeadCommit()).thenReturn(commit.name());
+    }
+}
@@ -0,0 +1,225 @@
+package com.haneolj.portfolio.service;
+
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GitObjectVaultSourceTest {
+
+    private static final Instant LAST_COMMIT_TIME = Instant.ofEpochSecond(500);
+
+    @TempDir
+    Path repositoryRoot;
+
+    private Repository repository;
+    private GitService gitService;
+    private GitHistoryService gitHistoryService;
+    private RepositoryStateService repositoryStateService;
+    private GitObjectVaultSource vaultSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = new FileRepositoryBuilder().setGitDir(repositoryRoot.toFile()).setBare().build();
+        repository.create(true);
+
+        gitService = new GitService();
+        ReflectionTestUtils.setField(gitService, "obsidianLocalPath", repositoryRoot.toString());
+        ReflectionTestUtils.setField(gitService, "vaultSource", "git");
+        ReflectionTestUtils.setField(gitService, "readerPoolSize", 2);
+
+        gitHistoryService = mock(GitHistoryService.class);
+        when(gitHistoryService.getLastCommitTime(any())).thenReturn(LAST_COMMIT_TIME);
+
+        repositoryStateService = mock(RepositoryStateService.class);
+        when(repositoryStateService.getLocalPath()).thenReturn(repositoryRoot.toString());
+
+        vaultSource = new GitObjectVaultSource(gitService, gitHistoryService, repositoryStateService);
+        ReflectionTestUtils.setField(vaultSource, "studyPath", "Study");
+    }
+
+    @AfterEach
+    void tearDown() {
+        gitService.closeRepository();
+        repository.close();
+    }
+
+    @Test
+    void onlyPathsUnderStudyDirectoryAreListed() throws Exception {
+        Map<String, String> files = new TreeMap<>();
+        files.put("Study/A.md", "a");
+        files.put("Study/sub/B.md", "b");
+        files.put("Other/C.md", "c");
+        files.put("Studying/D.md", "d");
+        moveHead(commit(files, 1_000));
+
+        assertThat(names(vaultSource.list(path("Study")))).containsExactlyInAnyOrder("A.md", "sub");
+        assertThat(names(vaultSource.list(path("Study/sub")))).containsExactly("B.md");
+        assertThat(vaultSource.stat(path("Other/C.md"))).isEmpty();
+        // 이름이 같은 글자로 시작하는 다른 디렉토리는 포함하지 않음
+        assertThat(vaultSource.stat(path("Studying/D.md"))).isEmpty();
+    }
+
+    @Test
+    void symlinksAndSubmodulesAreSkipped() throws Exception {
+        try (ObjectInserter inserter = repository.newObjectInserter()) {
+            DirCache index = DirCache.newInCore();
+            DirCacheBuilder builder = index.builder();
+            builder.add(entry("Study/A.md", FileMode.REGULAR_FILE, blob(inserter, "a")));
+            builder.add(entry("Study/link.md", FileMode.SYMLINK, blob(inserter, "A.md")));
+            builder.add(entry("Study/module", FileMode.GITLINK,
+                    ObjectId.fromString("0123456789012345678901234567890123456789")));
+            builder.finish();
+            moveHead(commitTree(inserter, index.writeTree(inserter), 1_000));
+        }
+
+        assertThat(names(vaultSource.list(path("Study")))).containsExactly("A.md");
+        assertThat(vaultSource.stat(path("Study/link.md"))).isEmpty();
+        assertThat(vaultSource.stat(path("Study/module"))).isEmpty();
+    }
+
+    @Test
+    void contentIdIsTreeBlobId() throws Exception {
+        ObjectId commitId = commit(Map.of("Study/A.md", "# 노트\n\n본문"), 1_000);
+        moveHead(commitId);
+
+        String content = vaultSource.read(path("Study/A.md"));
+
+        assertThat(content).isEqualTo("# 노트\n\n본문");
+        assertThat(vaultSource.contentId(path("Study/A.md"), content)).isEqualTo(VaultSource.blobId(content));
+        assertThat(vaultSource.contentId(path("Study/A.md"), content))
+                .isEqualTo(repository.resolve(commitId.name() + ":Study/A.md").name());
+    }
+
+    @Test
+    void fileTimesComeFromHistoryIndex() throws Exception {
+        moveHead(commit(Map.of("Study/A.md", "a"), 1_000));
+
+        VaultSource.Entry file = vaultSource.stat(path("Study/A.md")).orElseThrow();
+        VaultSource.Entry directory = vaultSource.stat(path("Study")).orElseThrow();
+
+        assertThat(file.lastModified()).isEqualTo(LAST_COMMIT_TIME);
+        assertThat(file.createdAt()).isEqualTo(Instant.ofEpochSecond(1_000));
+        assertThat(directory.lastModified()).isEqualTo(Instant.ofEpochSecond(1_000));
+    }
+
+    @Test
+    void historyIndexIsRefreshedOutsideLocks() throws Exception {
+        moveHead(commit(Map.of("Study/A.md", "a"), 1_000));
+        AtomicBoolean refreshedUnderLock = new AtomicBoolean();
+        doAnswer(invocation -> {
+            refreshedUnderLock.set(Thread.holdsLock(vaultSource));
+            return null;
+        }).when(gitHistoryService).refreshIndex();
+        AtomicBoolean lookedUpWithReader = new AtomicBoolean();
+        when(gitHistoryService.getLastCommitTime(any())).thenAnswer(invocation -> {
+            // 트리를 훑는 동안 빌린 reader 를 반납한 뒤에 조회해야 함
+            lookedUpWithReader.set(((Collection<?>) ReflectionTestUtils.getField(gitService, "readerPool"))
+                    .isEmpty());
+            return LAST_COMMIT_TIME;
+        });
+
+        vaultSource.list(path("Study"));
+
+        assertThat(refreshedUnderLock).isFalse();
+        assertThat(lookedUpWithReader).isFalse();
+    }
+
+    @Test
+    void snapshotFollowsHead() throws Exception {
+        moveHead(commit(Map.of("Study/A.md", "old"), 1_000));
+        assertThat(vaultSource.read(path("Study/A.md"))).isEqualTo("old");
+
+        Map<String, String> files = new TreeMap<>();
+        files.put("Study/A.md", "new");
+        files.put("Study/B.md", "b");
+        moveHead(commit(files, 2_000));
+
+        assertThat(vaultSource.read(path("Study/A.md"))).isEqualTo("new");
+        assertThat(vaultSource.stat(path("Study/B.md"))).isPresent();
+        assertThat(vaultSource.contentId(path("Study/A.md"), "new")).isEqualTo(VaultSource.blobId("new"));
+    }
+
+    // <경로, 내용> 으로 트리를 만들어 커밋
+    private ObjectId commit(Map<String, String> files, long epochSecond) throws IOException {
+        try (ObjectInserter inserter = repository.newObjectInserter()) {
+            DirCache index = DirCache.newInCore();
+            DirCacheBuilder builder = index.builder();
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                builder.add(entry(file.getKey(), FileMode.REGULAR_FILE, blob(inserter, file.getValue())));
+            }
+            builder.finish();
+            return commitTree(inserter, index.writeTree(inserter), epochSecond);
+        }
+    }
+
+    private ObjectId commitTree(ObjectInserter inserter, ObjectId treeId, long epochSecond) throws IOException {
+        PersonIdent ident = new PersonIdent("tester", "tester@example.com",
+                Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+        CommitBuilder commit = new CommitBuilder();
+        commit.setTreeId(treeId);
+        commit.setAuthor(ident);
+        commit.setCommitter(ident);
+        commit.setMessage("commit " + epochSecond);
+        ObjectId commitId = inserter.insert(commit);
+        inserter.flush();
+        return commitId;
+    }
+
+    private static DirCacheEntry entry(String path, FileMode mode, ObjectId objectId) {
+        DirCacheEntry entry = new DirCacheEntry(path);
+        entry.setFileMode(mode);
+        entry.setObjectId(objectId);
+        return entry;
+    }
+
+    private ObjectId blob(ObjectInserter inserter, String content) throws IOException {
+        return inserter.insert(Constants.OBJ_BLOB, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void moveHead(ObjectId commitId) throws IOException {
+        RefUpdate update = repository.updateRef(Constants.R_HEADS + "main");
+        update.setNewObjectId(commitId);
+        update.setForceUpdate(true);
+        update.update();
+        when(repositoryStateService.getHeadCommit()).thenReturn(commitId.name());
+    }
+
+    private Path path(String relativePath) {
+        return repositoryRoot.resolve(relativePath);
+    }
+
+    private static List<String> names(List<VaultSource.Entry> entries) {
+        return entries.stream().map(VaultSource.Entry::name).toList();
+    }
+}
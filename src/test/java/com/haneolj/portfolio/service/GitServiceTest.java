@@ -0,0 +1,171 @@
+package com.haneolj.portfolio.service;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    Path repositoryRoot;
+
+    private GitService gitService;
+    private ObjectId blobId;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        try (Git git = Git.init().setDirectory(repositoryRoot.toFile()).setInitialBranch("main").call()) {
+            Files.writeString(repositoryRoot.resolve("A.md"), "note");
+            git.add().addFilepattern("A.md").call();
+            git.commit().setMessage("init").setAuthor("tester", "tester@example.com")
+                    .setCommitter("tester", "tester@example.com").call();
+            blobId = git.getRepository().resolve("HEAD:A.md");
+        }
+
+        gitService = new GitService();
+        ReflectionTestUtils.setField(gitService, "obsidianLocalPath", repositoryRoot.toString());
+        ReflectionTestUtils.setField(gitService, "vaultSource", "worktree");
+        ReflectionTestUtils.setField(gitService, "readerPoolSize", 4);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        gitService.closeRepository();
+    }
+
+    @Test
+    void readerIsReusedFromPool() throws Exception {
+        ObjectReader first = gitService.withReader((repository, reader) -> reader);
+        ObjectReader second = gitService.withReader((repository, reader) -> reader);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void handleInUseStaysOpenAcrossReopen() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch reopened = new CountDownLatch(1);
+        AtomicReference<Repository> oldRepository = new AtomicReference<>();
+
+        Future<String> reading = executor.submit(() -> gitService.withReader((repository, reader) -> {
+            oldRepository.set(repository);
+            entered.countDown();
+            await(reopened);
+            // 다시 열린 뒤에도 이전 핸들로 하던 작업은 끝까지 진행
+            return read(reader);
+        }));
+
+        assertThat(entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        gitService.reopenRepository();
+        assertThat(useCount(oldRepository.get())).isPositive();
+
+        Repository newRepository = gitService.withReader((repository, reader) -> repository);
+        assertThat(newRepository).isNotSameAs(oldRepository.get());
+
+        reopened.countDown();
+        assertThat(reading.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("note");
+        // 마지막 사용자가 끝나면 이전 핸들이 실제로 닫힘
+        assertThat(useCount(oldRepository.get())).isZero();
+    }
+
+    @Test
+    void readerReturnedAfterReopenIsDiscarded() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch reopened = new CountDownLatch(1);
+
+        Future<ObjectReader> reading = executor.submit(() -> gitService.withReader((repository, reader) -> {
+            entered.countDown();
+            await(reopened);
+            return reader;
+        }));
+
+        assertThat(entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        gitService.reopenRepository();
+        reopened.countDown();
+        ObjectReader oldReader = reading.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // 닫힌 핸들의 reader 는 풀에 남지 않음
+        assertThat((Collection<?>) ReflectionTestUtils.getField(gitService, "readerPool")).isEmpty();
+        Repository newRepository = gitService.getRepository();
+        gitService.withReader((repository, reader) -> {
+            assertThat(repository).isSameAs(newRepository);
+            assertThat(reader).isNotSameAs(oldReader);
+            return null;
+        });
+    }
+
+    @Test
+    void concurrentReadersSurviveRepeatedReopen() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            workers.add(executor.submit(() -> {
+                while (running.get()) {
+                    String content = gitService.withReader((repository, reader) -> read(reader));
+                    assertThat(content).isEqualTo("note");
+                    reads.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            gitService.reopenRepository();
+            Thread.sleep(2);
+        }
+        running.set(false);
+
+        for (Future<?> worker : workers) {
+            worker.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        assertThat(reads.get()).isPositive();
+    }
+
+    private String read(ObjectReader reader) throws IOException {
+        return new String(reader.open(blobId, Constants.OBJ_BLOB).getBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static int useCount(Repository repository) {
+        return ((AtomicInteger) ReflectionTestUtils.getField(repository, "useCnt")).get();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.haneolj.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haneolj.portfolio.dto.BacklinkDto;
+import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.GraphChangeDto;
+import com.haneolj.portfolio.dto.GraphChangesDto;
+import com.haneolj.portfolio.dto.GraphDataDto;
+import com.haneolj.portfolio.dto.GraphNodeDto;
+import com.haneolj.portfolio.util.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphServiceTest {
+
+    private static final Path ROOT = Paths.get("/vault/Study");
+
+    private NoteIndexService noteIndexService;
+    private GraphService graphService;
+
+    @BeforeEach
+    void setUp() {
+        noteIndexService = new NoteIndexService(new StringUtils());
+        graphService = new GraphService(new StringUtils(), noteIndexService, new ObjectMapper(),
+                new ConcurrentMapCacheManager("graphNeighborCache"));
+    }
+
+    @Test
+    void linkToMissingNoteConnectsWhenNoteIsAdded() {
+        CategoryNodeDto source = note("Source.md", "Target");
+        build(source);
+        assertThat(graphService.getGraphData().getLinks()).isEmpty();
+
+        long before = graphService.getVersion();
+        add(note("Target.md"));
+
+        assertThat(backlinkNames("Target.md")).containsExactly("Source");
+        assertThat(changeTypes(before)).containsExactly(GraphChangeDto.NODE_ADDED, GraphChangeDto.LINK_ADDED);
+    }
+
+    @Test
+    void newNoteThatShadowsResolvedLinkTakesOverEdge() {
+        build(note("Source.md", "Foo"), note("b/Foo.md"));
+        assertThat(backlinkNames("b/Foo.md")).containsExactly("Source");
+
+        // 색인은 같은 이름 중 경로 순서가 앞선 a/Foo.md 를 고르게 됨
+        long before = graphService.getVersion();
+        add(note("a/Foo.md"));
+
+        assertThat(noteIndexService.resolve("Foo")).contains(path("a/Foo.md"));
+        assertThat(backlinkNames("a/Foo.md")).containsExactly("Source");
+        assertThat(backlinkNames("b/Foo.md")).isEmpty();
+        assertThat(changeTypes(before)).containsExactly(
+                GraphChangeDto.NODE_ADDED, GraphChangeDto.LINK_REMOVED, GraphChangeDto.LINK_ADDED);
+    }
+
+    @Test
+    void removingShadowingNoteFallsBackToRemainingNote() {
+        build(note("Source.md", "Foo"), note("a/Foo.md"), note("b/Foo.md"));
+        assertThat(backlinkNames("a/Foo.md")).containsExactly("Source");
+
+        noteIndexService.unregister(Paths.get(path("a/Foo.md")));
+        graphService.removeNote(path("a/Foo.md"));
+
+        assertThat(backlinkNames("b/Foo.md")).containsExactly("Source");
+    }
+
+    @Test
+    void removingNoteLeavesLinkPendingUntilNoteReturns() {
+        build(note("Source.md", "Target"), note("Target.md"));
+
+        long before = graphService.getVersion();
+        noteIndexService.unregister(Paths.get(path("Target.md")));
+        graphService.removeNote(path("Target.md"));
+
+        assertThat(changeTypes(before)).containsExactly(GraphChangeDto.LINK_REMOVED, GraphChangeDto.NODE_REMOVED);
+        assertThat(graphService.getGraphData().getNodes()).hasSize(1);
+
+        add(note("Target.md"));
+        assertThat(backlinkNames("Target.md")).containsExactly("Source");
+    }
+
+    @Test
+    void renameMovesIncomingLinksToNewNode() {
+        build(note("Source.md", "Target"), note("old/Target.md"));
+
+        noteIndexService.unregister(Paths.get(path("old/Target.md")));
+        graphService.removeNote(path("old/Target.md"));
+        add(note("new/Target.md"));
+
+        assertThat(backlinkNames("new/Target.md")).containsExactly("Source");
+        assertThat(graphService.getGraphData().getNodes()).hasSize(2);
+    }
+
+    @Test
+    void editingLinksOnlyChangesThatNotesEdges() {
+        build(note("Source.md", "A"), note("A.md"), note("B.md"));
+
+        long before = graphService.getVersion();
+        graphService.upsertNote(note("Source.md", "B"));
+
+        assertThat(changeTypes(before)).containsExactly(GraphChangeDto.LINK_REMOVED, GraphChangeDto.LINK_ADDED);
+        assertThat(backlinkNames("A.md")).isEmpty();
+        assertThat(backlinkNames("B.md")).containsExactly("Source");
+    }
+
+    @Test
+    void unchangedUpsertKeepsVersion() {
+        build(note("Source.md", "A"), note("A.md"));
+
+        long before = graphService.getVersion();
+        graphService.upsertNote(note("Source.md", "A"));
+
+        assertThat(graphService.getVersion()).isEqualTo(before);
+        assertThat(graphService.getChanges(before).getChanges()).isEmpty();
+    }
+
+    @Test
+    void changesBeforeTrimmedHistoryRequireReset() {
+        build(note("A.md"));
+
+        GraphChangesDto changes = graphService.getChanges(graphService.getVersion() + 1);
+        assertThat(changes.isReset()).isTrue();
+    }
+
+    @Test
+    void neighborsStopAtRequestedDepth() {
+        build(note("A.md", "B"), note("B.md", "C"), note("C.md", "D"), note("D.md"));
+
+        assertThat(neighborNames("A.md", 1)).containsExactly("A", "B");
+        assertThat(neighborNames("A.md", 2)).containsExactly("A", "B", "C");
+        assertThat(graphService.getNeighbors(path("A.md"), 2, 10).getLinks()).hasSize(2);
+    }
+
+    @Test
+    void neighborsFollowIncomingLinks() {
+        build(note("A.md", "B"), note("B.md", "C"), note("C.md"));
+
+        assertThat(neighborNames("C.md", 2)).containsExactly("C", "B", "A");
+    }
+
+    @Test
+    void neighborsAreLimitedNearestFirst() {
+        build(note("Hub.md", "L1", "L2", "L3", "L4"),
+                note("L1.md", "Far"), note("L2.md"), note("L3.md"), note("L4.md"), note("Far.md"));
+
+        GraphDataDto result = graphService.getNeighbors(path("Hub.md"), 2, 3);
+
+        assertThat(result.getNodes()).extracting(GraphNodeDto::getName).containsExactly("Hub", "L1", "L2");
+        // 결과에 포함된 노드 사이의 링크만 포함
+        assertThat(result.getLinks()).hasSize(2);
+    }
+
+    @Test
+    void mutualLinksAppearOnceInNeighbors() {
+        build(note("A.md", "B"), note("B.md", "A"));
+
+        GraphDataDto result = graphService.getNeighbors(path("A.md"), 1, 10);
+        assertThat(result.getNodes()).hasSize(2);
+        assertThat(result.getLinks()).hasSize(1);
+    }
+
+    @Test
+    void neighborsReflectGraphChanges() {
+        build(note("A.md", "B"), note("B.md"), note("C.md"));
+        assertThat(neighborNames("A.md", 1)).containsExactly("A", "B");
+
+        graphService.upsertNote(note("A.md", "C"));
+
+        assertThat(neighborNames("A.md", 1)).containsExactly("A", "C");
+    }
+
+    @Test
+    void neighborsOfUnknownNoteAreNull() {
+        build(note("A.md"));
+
+        assertThat(graphService.getNeighbors(path("Missing.md"), 1, 10)).isNull();
+    }
+
+    private List<String> neighborNames(String relativePath, int depth) {
+        return graphService.getNeighbors(path(relativePath), depth, GraphService.MAX_NEIGHBOR_LIMIT).getNodes()
+                .stream().map(GraphNodeDto::getName).toList();
+    }
+
+    private void build(CategoryNodeDto... fileNodes) {
+        List<Path> files = Arrays.stream(fileNodes).map(node -> Paths.get(node.getPath())).toList();
+        noteIndexService.rebuild(ROOT, files);
+        graphService.rebuild(List.of(fileNodes));
+    }
+
+    private void add(CategoryNodeDto fileNode) {
+        noteIndexService.register(Paths.get(fileNode.getPath()));
+        graphService.upsertNote(fileNode);
+    }
+
+    private List<String> backlinkNames(String relativePath) {
+        return graphService.getBacklinks(path(relativePath)).stream().map(BacklinkDto::getName).toList();
+    }
+
+    private List<String> changeTypes(long since) {
+        return graphService.getChanges(since).getChanges().stream().map(GraphChangeDto::getType).toList();
+    }
+
+    static CategoryNodeDto note(String relativePath, String... links) {
+        Path file = ROOT.resolve(relativePath);
+        String name = file.getFileName().toString().replace(".md", "");
+        return CategoryNodeDto.file(name, file.toString(), List.of(links), Map.of(), null, null, null);
+    }
+
+    static String path(String relativePath) {
+        return ROOT.resolve(relativePath).toString();
+    }
+}
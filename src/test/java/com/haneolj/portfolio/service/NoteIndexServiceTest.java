@@ -0,0 +1,105 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.util.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteIndexServiceTest {
+
+    private static final Path ROOT = Paths.get("/vault/Study");
+
+    private final StringUtils stringUtils = new StringUtils();
+    private NoteIndexService noteIndexService;
+
+    @BeforeEach
+    void setUp() {
+        noteIndexService = new NoteIndexService(stringUtils);
+    }
+
+    @Test
+    void resolvesByFileNameAndFolderPath() {
+        noteIndexService.rebuild(ROOT, List.of(ROOT.resolve("A/Note.md"), ROOT.resolve("B/Other.md")));
+
+        assertThat(noteIndexService.resolve("Note")).contains(path("A/Note.md"));
+        assertThat(noteIndexService.resolve("A/Note")).contains(path("A/Note.md"));
+        assertThat(noteIndexService.resolve("/A/Note.md")).contains(path("A/Note.md"));
+        assertThat(noteIndexService.resolve("B/Note")).isEmpty();
+    }
+
+    @Test
+    void exactCaseMatchWinsOverCaseInsensitiveMatch() {
+        noteIndexService.rebuild(ROOT, List.of(ROOT.resolve("a/note.md"), ROOT.resolve("b/Note.md")));
+
+        // 경로 순서로는 a/note.md 가 앞서지만 대소문자까지 일치하는 파일이 우선
+        assertThat(noteIndexService.resolve("Note")).contains(path("b/Note.md"));
+        assertThat(noteIndexService.resolve("note")).contains(path("a/note.md"));
+        assertThat(noteIndexService.resolve("NOTE")).contains(path("a/note.md"));
+    }
+
+    @Test
+    void sameNameResolvesToFirstPathInOrder() {
+        noteIndexService.rebuild(ROOT, List.of(ROOT.resolve("b/Note.md"), ROOT.resolve("a/Note.md")));
+
+        assertThat(noteIndexService.resolve("Note")).contains(path("a/Note.md"));
+        assertThat(noteIndexService.resolve("b/Note")).contains(path("b/Note.md"));
+    }
+
+    @Test
+    void unregisteredNoteFallsBackToRemainingCandidate() {
+        noteIndexService.rebuild(ROOT, List.of(ROOT.resolve("a/Note.md"), ROOT.resolve("b/Note.md")));
+
+        noteIndexService.unregister(ROOT.resolve("a/Note.md"));
+
+        assertThat(noteIndexService.resolve("Note")).contains(path("b/Note.md"));
+        assertThat(noteIndexService.resolve("a/Note")).isEmpty();
+    }
+
+    @Test
+    void lookupKeysCoverEveryFolderSuffix() {
+        noteIndexService.rebuild(ROOT, List.of());
+
+        assertThat(noteIndexService.lookupKeysOf(ROOT.resolve("A/B/Note.md")))
+                .containsExactly("note", "b/note", "a/b/note");
+        assertThat(noteIndexService.toLookupKey("/A/B/Note.md")).isEqualTo("a/b/note");
+    }
+
+    @Test
+    void pageIdStaysShortForLongPaths() {
+        // 한글 이름 노트를 깊게 중첩하면 Base64 로 인코딩한 경로는 255바이트를 넘음
+        String longPath = ROOT + "/" + "자료구조와 알고리즘/".repeat(10) + "아주 긴 제목의 노트.md";
+        assertThat(stringUtils.encodeBase64Url(longPath).length()).isGreaterThan(255);
+
+        assertThat(stringUtils.toPageId(longPath)).hasSize(32).matches("[0-9a-f]+");
+    }
+
+    @Test
+    void pageIdResolvesToRegisteredNote() {
+        Path note = ROOT.resolve("A/Note.md");
+        noteIndexService.rebuild(ROOT, List.of(note));
+
+        assertThat(noteIndexService.findByPageId(stringUtils.toPageId(note.toString()))).contains(note.toString());
+    }
+
+    @Test
+    void pageIdFollowsRegisterAndUnregister() {
+        noteIndexService.rebuild(ROOT, List.of());
+        Path note = ROOT.resolve("New.md");
+        String pageId = stringUtils.toPageId(note.toString());
+
+        noteIndexService.register(note);
+        assertThat(noteIndexService.findByPageId(pageId)).contains(note.toString());
+
+        noteIndexService.unregister(note);
+        assertThat(noteIndexService.findByPageId(pageId)).isEmpty();
+    }
+
+    private static String path(String relativePath) {
+        return ROOT.resolve(relativePath).toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.RenderStoreStatsDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RenderStoreServiceTest {
+
+    @TempDir
+    Path storeDirectory;
+
+    private final List<RenderStoreService> openedStores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        openedStores.forEach(RenderStoreService::close);
+    }
+
+    @Test
+    void storedValueIsReturned() {
+        RenderStoreService store = open(4096);
+
+        assertThat(store.get("a")).isNull();
+        store.put("a", bytes("<p>A</p>"));
+
+        assertThat(text(store.get("a"))).isEqualTo("<p>A</p>");
+        RenderStoreStatsDto stats = store.getStats();
+        assertThat(stats.getEntryCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyPointsToLatestValue() {
+        RenderStoreService store = open(4096);
+
+        store.put("a", bytes("old"));
+        store.put("a", bytes("new"));
+
+        assertThat(text(store.get("a"))).isEqualTo("new");
+        assertThat(store.getStats().getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fullSegmentIsResetAndRefilled() {
+        // 헤더 16바이트 + 레코드 2개(각 4 + 2 + 키 2 + 4 + 값 40 = 52바이트)만 들어가는 크기
+        RenderStoreService store = open(128);
+
+        store.put("k1", new byte[40]);
+        store.put("k2", new byte[40]);
+        assertThat(store.getStats().getResetCount()).isZero();
+
+        store.put("k3", bytes("x".repeat(40)));
+
+        assertThat(store.get("k1")).isNull();
+        assertThat(store.get("k2")).isNull();
+        assertThat(text(store.get("k3"))).isEqualTo("x".repeat(40));
+        assertThat(store.getStats().getResetCount()).isEqualTo(1);
+        assertThat(store.getStats().getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void valueLargerThanSegmentIsSkipped() {
+        RenderStoreService store = open(128);
+        store.put("small", bytes("kept"));
+
+        store.put("large", new byte[200]);
+
+        assertThat(store.get("large")).isNull();
+        assertThat(text(store.get("small"))).isEqualTo("kept");
+        assertThat(store.getStats().getResetCount()).isZero();
+    }
+
+    @Test
+    void entriesSurviveReopen() {
+        RenderStoreService first = open(4096);
+        first.put("a", bytes("A1"));
+        first.put("b", bytes("B"));
+        first.put("a", bytes("A2"));
+        first.close();
+
+        RenderStoreService second = open(4096);
+
+        // 같은 키는 나중 레코드가 우선
+        assertThat(text(second.get("a"))).isEqualTo("A2");
+        assertThat(text(second.get("b"))).isEqualTo("B");
+        assertThat(second.getStats().getEntryCount()).isEqualTo(2);
+
+        // 복원된 끝 위치 뒤에 이어서 기록
+        second.put("c", bytes("C"));
+        second.close();
+        assertThat(text(open(4096).get("c"))).isEqualTo("C");
+    }
+
+    @Test
+    void disabledStoreKeepsNothing() {
+        RenderStoreService store = open(4096);
+        ReflectionTestUtils.setField(store, "enabled", false);
+
+        store.put("a", bytes("A"));
+
+        assertThat(store.get("a")).isNull();
+        assertThat(store.getStats().isAvailable()).isFalse();
+    }
+
+    private RenderStoreService open(long maxBytes) {
+        RenderStoreService store = new RenderStoreService(mock(RepositoryStateService.class), mock(GitService.class));
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "directory", storeDirectory.toString());
+        ReflectionTestUtils.setField(store, "maxBytes", maxBytes);
+        openedStores.add(store);
+        return store;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,49 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.RepositorySyncStatusDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryStateServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void statusIsAvailableDuringSync() throws Exception {
+        GitService gitService = mock(GitService.class);
+        RepositoryStateService repositoryStateService = new RepositoryStateService(gitService);
+        when(gitService.resolveHeadCommit()).thenReturn("a");
+        when(gitService.ensureRepository()).thenReturn("/vault");
+        repositoryStateService.sync("initial");
+
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch releasePull = new CountDownLatch(1);
+        when(gitService.ensureRepository()).thenAnswer(invocation -> {
+            pulling.countDown();
+            releasePull.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return "/vault";
+        });
+        CompletableFuture<Boolean> sync = CompletableFuture.supplyAsync(() -> repositoryStateService.sync("webhook"));
+        assertThat(pulling.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // pull 이 끝나지 않아도 이전 동기화 결과로 바로 응답
+            RepositorySyncStatusDto status = CompletableFuture.supplyAsync(repositoryStateService::getSyncStatus)
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(status.getSyncCount()).isEqualTo(1);
+            assertThat(status.getLastSyncTrigger()).isEqualTo("initial");
+        } finally {
+            releasePull.countDown();
+        }
+
+        sync.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(repositoryStateService.getSyncStatus().getSyncCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,160 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.NoteRecordDto;
+import com.haneolj.portfolio.dto.SearchResultDto;
+import com.haneolj.portfolio.dto.SearchResultsDto;
+import com.haneolj.portfolio.util.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchServiceTest {
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 스니펫은 원문 캐시에서 읽으므로 빈 내용으로 대체
+        MarkdownService markdownService = mock(MarkdownService.class);
+        when(markdownService.readMarkdownFile(any())).thenReturn("");
+
+        searchService = new SearchService(markdownService, new StringUtils());
+    }
+
+    @Test
+    void koreanTextMatchesByOverlappingBigrams() {
+        searchService.rebuild(List.of(note("A", "검색엔진 구현")));
+
+        assertThat(names("엔진")).containsExactly("A");
+        assertThat(names("검색엔진")).containsExactly("A");
+        // 띄어쓰기로 나뉜 글자는 이어 붙이지 않음
+        assertThat(names("진구")).isEmpty();
+    }
+
+    @Test
+    void singleKoreanCharacterIsItsOwnTerm() {
+        searchService.rebuild(List.of(note("A", "책 소개")));
+
+        assertThat(names("책")).containsExactly("A");
+    }
+
+    @Test
+    void latinWordsMatchWholeWordsIgnoringCase() {
+        searchService.rebuild(List.of(note("A", "Spring Boot 설정")));
+
+        assertThat(names("spring")).containsExactly("A");
+        assertThat(names("BOOT")).containsExactly("A");
+        assertThat(names("boo")).isEmpty();
+    }
+
+    @Test
+    void mixedScriptsSplitIntoSeparateTerms() {
+        searchService.rebuild(List.of(note("A", "JPA연관관계")));
+
+        assertThat(names("jpa")).containsExactly("A");
+        assertThat(names("연관")).containsExactly("A");
+    }
+
+    @Test
+    void titleMatchOutranksBodyMatch() {
+        searchService.rebuild(List.of(
+                note("본문", "여기서 캐시 이야기를 조금 합니다"),
+                note("캐시", "다른 이야기를 조금 합니다")));
+
+        assertThat(names("캐시")).containsExactly("캐시", "본문");
+    }
+
+    @Test
+    void higherTermFrequencyRanksFirst() {
+        searchService.rebuild(List.of(
+                note("A", "redis 설정 방법"),
+                note("B", "redis redis redis 설정")));
+
+        assertThat(names("redis")).containsExactly("B", "A");
+    }
+
+    @Test
+    void documentsMatchingMoreQueryTermsRankFirst() {
+        searchService.rebuild(List.of(
+                note("한쪽", "memory memory memory memory"),
+                note("양쪽", "memory cache")));
+
+        SearchResultsDto results = searchService.search("memory cache", 10);
+
+        assertThat(results.getTotal()).isEqualTo(2);
+        assertThat(results.getResults()).extracting(SearchResultDto::getName).containsExactly("양쪽", "한쪽");
+    }
+
+    @Test
+    void removingDocumentKeepsOtherPostingsIntact() {
+        // 첫 문서를 제거하면 포스팅 목록의 마지막 항목(C)이 그 자리로 옮겨짐
+        searchService.rebuild(List.of(
+                note("A", "공통"),
+                note("B", "공통 공통"),
+                note("C", "공통 공통 공통 공통")));
+
+        searchService.remove(Paths.get(path("A")));
+
+        // 옮겨진 항목의 빈도가 그대로여야 순위가 유지됨
+        assertThat(names("공통")).containsExactly("C", "B");
+
+        // 비워진 문서 ID 를 재사용한 새 문서도 정상 검색
+        searchService.update(note("D", "공통 공통 공통"));
+        assertThat(names("공통")).containsExactly("C", "D", "B");
+    }
+
+    @Test
+    void removingLastDocumentOfTermDropsTheTerm() {
+        searchService.rebuild(List.of(note("A", "고유한 단어"), note("B", "다른 내용")));
+
+        searchService.remove(Paths.get(path("A")));
+
+        assertThat(names("고유")).isEmpty();
+        assertThat(names("다른")).containsExactly("B");
+    }
+
+    @Test
+    void updateReplacesPreviousTerms() {
+        searchService.rebuild(List.of(note("A", "이전 내용")));
+
+        searchService.update(note("A", "새로운 내용"));
+
+        assertThat(names("이전")).isEmpty();
+        assertThat(names("새로")).containsExactly("A");
+    }
+
+    @Test
+    void limitKeepsHighestScores() {
+        searchService.rebuild(List.of(
+                note("A", "java"),
+                note("B", "java java java"),
+                note("C", "java java")));
+
+        SearchResultsDto results = searchService.search("java", 2);
+
+        assertThat(results.getTotal()).isEqualTo(3);
+        assertThat(results.getResults()).extracting(SearchResultDto::getName).containsExactly("B", "C");
+    }
+
+    private List<String> names(String query) {
+        return searchService.search(query, SearchService.MAX_RESULTS).getResults().stream()
+                .map(SearchResultDto::getName)
+                .toList();
+    }
+
+    private static NoteRecordDto note(String title, String content) {
+        return new NoteRecordDto(path(title), content, title, title, List.of(), Map.of(), List.of(), 0);
+    }
+
+    private static String path(String title) {
+        return "/vault/Study/" + title + ".md";
+    }
+}
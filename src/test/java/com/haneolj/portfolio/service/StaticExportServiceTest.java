@@ -0,0 +1,194 @@
+package com.haneolj.portfolio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.GraphFormat;
+import com.haneolj.portfolio.dto.GraphPayloadDto;
+import com.haneolj.portfolio.dto.StaticExportResultDto;
+import com.haneolj.portfolio.dto.StudySnapshotDto;
+import com.haneolj.portfolio.util.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StaticExportServiceTest {
+
+    private static final String NOTE_A = "/vault/Study/A.md";
+    private static final String NOTE_B = "/vault/Study/B.md";
+
+    @TempDir
+    Path target;
+
+    private final StringUtils stringUtils = new StringUtils();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private StudyService studyService;
+    private MarkdownService markdownService;
+    private StaticExportService exportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        studyService = mock(StudyService.class);
+        when(studyService.getLastUpdateDate()).thenReturn("2025.01.01");
+
+        markdownService = mock(MarkdownService.class);
+        when(markdownService.readMarkdownFile(any())).thenReturn("# note");
+        when(markdownService.convertToHtml(any(), anyString())).thenReturn("<h1>note</h1>");
+        when(markdownService.getLastModifiedDate(any())).thenReturn("2025.01.01");
+        when(markdownService.getFileCreationDate(any())).thenReturn("2025.01.01");
+
+        GraphService graphService = mock(GraphService.class);
+        when(graphService.getGraphPayload(GraphFormat.COLUMNAR)).thenReturn(new GraphPayloadDto(1, 2,
+                "{}".getBytes(StandardCharsets.UTF_8), new byte[0], "graph-1", Instant.EPOCH));
+
+        TemplateRenderService templateRenderService = mock(TemplateRenderService.class);
+        when(templateRenderService.getCategoryTreeHtml(any())).thenReturn("<ul></ul>");
+        when(templateRenderService.render(anyString(), anyMap()))
+                .thenAnswer(invocation -> "<html>" + invocation.getArgument(0) + "</html>");
+
+        exportService = new StaticExportService(mock(ApplicationContext.class), studyService, markdownService,
+                graphService, mock(NoteIngestionService.class), templateRenderService, stringUtils, objectMapper);
+        ReflectionTestUtils.setField(exportService, "appVersion", "1.0.0");
+        ReflectionTestUtils.setField(exportService, "threads", 2);
+    }
+
+    @Test
+    void firstExportWritesPagesAndManifest() throws Exception {
+        snapshot(1, note(NOTE_A, "a1"), note(NOTE_B, "b1"));
+
+        StaticExportResultDto result = exportService.export(target);
+
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getSkippedCount()).isZero();
+        assertThat(result.getWrittenCount()).isEqualTo(result.getTotalCount());
+        assertThat(Files.readString(page(NOTE_A))).isEqualTo("<html>study/markdown-view</html>");
+        assertThat(target.resolve("index.html")).exists();
+        assertThat(target.resolve("api/study/graph")).hasContent("{}");
+
+        Map<String, String> files = manifestFiles();
+        assertThat(files).hasSize(result.getTotalCount());
+        assertThat(files.get(relative(NOTE_A))).matches("[0-9a-f]{64}");
+        assertThat(files.get(relative(NOTE_A))).isNotEqualTo(files.get(relative(NOTE_B)));
+        assertThat(files.get("api/study/graph")).isEqualTo("graph-1");
+    }
+
+    @Test
+    void unchangedSecondExportSkipsEveryFile() throws Exception {
+        snapshot(1, note(NOTE_A, "a1"), note(NOTE_B, "b1"));
+        exportService.export(target);
+
+        StaticExportResultDto second = exportService.export(target);
+
+        assertThat(second.getWrittenCount()).isZero();
+        assertThat(second.getSkippedCount()).isEqualTo(second.getTotalCount());
+        // 건너뛴 노트는 마크다운을 다시 읽지 않음
+        verify(markdownService, times(2)).readMarkdownFile(any());
+    }
+
+    @Test
+    void changedNoteIsRewrittenAlone() throws Exception {
+        snapshot(1, note(NOTE_A, "a1"), note(NOTE_B, "b1"));
+        exportService.export(target);
+        String previousHash = manifestFiles().get(relative(NOTE_A));
+
+        snapshot(2, note(NOTE_A, "a2"), note(NOTE_B, "b1"));
+        StaticExportResultDto second = exportService.export(target);
+
+        assertThat(second.getWrittenCount()).isEqualTo(1);
+        assertThat(manifestFiles().get(relative(NOTE_A))).isNotEqualTo(previousHash);
+    }
+
+    @Test
+    void fileMissingOnDiskIsWrittenAgain() throws Exception {
+        snapshot(1, note(NOTE_A, "a1"));
+        exportService.export(target);
+        Files.delete(page(NOTE_A));
+
+        StaticExportResultDto second = exportService.export(target);
+
+        assertThat(second.getWrittenCount()).isEqualTo(1);
+        assertThat(page(NOTE_A)).exists();
+    }
+
+    @Test
+    void removedNotePageAndDirectoryAreDeleted() throws Exception {
+        snapshot(1, note(NOTE_A, "a1"), note(NOTE_B, "b1"));
+        exportService.export(target);
+        Path removedPage = page(NOTE_B);
+        assertThat(removedPage).exists();
+
+        snapshot(2, note(NOTE_A, "a1"));
+        StaticExportResultDto second = exportService.export(target);
+
+        assertThat(second.getRemovedCount()).isEqualTo(1);
+        assertThat(removedPage).doesNotExist();
+        assertThat(removedPage.getParent()).doesNotExist();
+        // 다른 노트 페이지가 남아 있는 상위 디렉토리는 유지
+        assertThat(target.resolve("study/view")).isDirectory();
+        assertThat(page(NOTE_A)).exists();
+        assertThat(manifestFiles()).doesNotContainKey(relative(NOTE_B)).containsKey(relative(NOTE_A));
+    }
+
+    @Test
+    void manifestEntryOutsideTargetIsIgnored() throws Exception {
+        Path outside = Files.writeString(target.getParent().resolve(target.getFileName() + "-outside.txt"), "keep");
+        try {
+            Files.writeString(target.resolve("export-manifest.json"),
+                    "{\"files\":{\"../" + outside.getFileName() + "\":\"x\"}}");
+            snapshot(1, note(NOTE_A, "a1"));
+
+            StaticExportResultDto result = exportService.export(target);
+
+            assertThat(result.getRemovedCount()).isZero();
+            assertThat(outside).exists();
+        } finally {
+            Files.deleteIfExists(outside);
+        }
+    }
+
+    private void snapshot(long version, CategoryNodeDto... notes) {
+        CategoryNodeDto root = CategoryNodeDto.directory("Study", "/vault/Study", Arrays.asList(notes));
+        when(studyService.getStudySnapshot())
+                .thenReturn(new StudySnapshotDto(version, root, LocalDateTime.of(2025, 1, 1, 0, 0)));
+    }
+
+    private static CategoryNodeDto note(String path, String contentId) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return CategoryNodeDto.file(name, path, List.of(), Map.of(), contentId, null, null);
+    }
+
+    private String relative(String notePath) {
+        return "study/view/" + stringUtils.toPageId(notePath) + "/index.html";
+    }
+
+    private Path page(String notePath) {
+        return target.resolve(relative(notePath));
+    }
+
+    private Map<String, String> manifestFiles() throws Exception {
+        JsonNode files = objectMapper.readTree(target.resolve("export-manifest.json").toFile()).path("files");
+        return objectMapper.convertValue(files, objectMapper.getTypeFactory()
+                .constructMapType(Map.class, String.class, String.class));
+    }
+}
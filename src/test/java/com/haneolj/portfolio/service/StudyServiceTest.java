@@ -0,0 +1,193 @@
+package com.haneolj.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.haneolj.portfolio.dto.BacklinkDto;
+import com.haneolj.portfolio.dto.CategoryNodeDto;
+import com.haneolj.portfolio.dto.SearchResultDto;
+import com.haneolj.portfolio.util.StringUtils;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudyServiceTest {
+
+    @TempDir
+    Path repositoryRoot;
+
+    private GitHistoryService gitHistoryService;
+    private NoteIndexService noteIndexService;
+    private GraphService graphService;
+    private SearchService searchService;
+    private CacheManager cacheManager;
+    private StudyService studyService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StringUtils stringUtils = new StringUtils();
+        VaultSource vaultSource = new WorkingTreeVaultSource();
+        cacheManager = new ConcurrentMapCacheManager();
+
+        gitHistoryService = mock(GitHistoryService.class);
+        when(gitHistoryService.getFileCreationDate(any(), any())).thenReturn(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        RepositoryStateService repositoryStateService = mock(RepositoryStateService.class);
+        when(repositoryStateService.getLocalPath()).thenReturn(repositoryRoot.toString());
+
+        // 검색 스니펫은 원문 캐시에서 읽으므로 빈 내용으로 대체
+        MarkdownService markdownService = mock(MarkdownService.class);
+        when(markdownService.readMarkdownFile(any())).thenReturn("");
+
+        noteIndexService = new NoteIndexService(stringUtils);
+        graphService = new GraphService(stringUtils, noteIndexService, new ObjectMapper(), cacheManager);
+        searchService = new SearchService(markdownService, stringUtils);
+
+        studyService = new StudyService(gitHistoryService, repositoryStateService,
+                mock(MarkdownPrecacheService.class), noteIndexService, graphService, searchService,
+                new NoteIngestionService(vaultSource, cacheManager), cacheManager, vaultSource);
+        ReflectionTestUtils.setField(studyService, "studyPath", "Study");
+        ReflectionTestUtils.setField(studyService, "scanParallelism", 2);
+        studyService.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyService.shutdown();
+    }
+
+    @Test
+    void renameMovesNoteAndDropsEmptyDirectory() throws Exception {
+        write("Study/A.md", "[[B]] 참고");
+        write("Study/old/B.md", "# B\n\nrenamed note");
+        studyService.getStudySnapshot();
+
+        Path oldPath = path("Study/old/B.md");
+        Path newPath = path("Study/new/B.md");
+        Files.createDirectories(newPath.getParent());
+        Files.move(oldPath, newPath);
+        Files.delete(oldPath.getParent());
+        diff(new GitHistoryService.PathChange(DiffEntry.ChangeType.RENAME, oldPath, newPath));
+
+        assertThat(studyService.applyCommitDiff("before", "after")).isEqualTo(2);
+
+        assertThat(studyService.getContentId(oldPath.toString())).isNull();
+        assertThat(studyService.getContentId(newPath.toString())).isNotNull();
+        assertThat(childNames(studyService.getStudyStructure())).containsExactly("new", "A");
+        assertThat(graphService.getBacklinks(newPath.toString()))
+                .extracting(BacklinkDto::getName).containsExactly("A");
+        assertThat(noteIndexService.resolve("B")).contains(newPath.toString());
+        assertThat(searchService.search("renamed", 10).getResults())
+                .extracting(SearchResultDto::getPageId)
+                .containsExactly(new StringUtils().toPageId(newPath.toString()));
+    }
+
+    @Test
+    void deleteRemovesNoteFromTreeGraphAndSearch() throws Exception {
+        write("Study/A.md", "[[B]] deleted source");
+        write("Study/B.md", "# B");
+        studyService.getStudySnapshot();
+        cacheManager.getCache("markdownRenderCache").put("rendered", "<p>A</p>");
+        long version = studyService.getStudySnapshot().getVersion();
+
+        Path deleted = path("Study/A.md");
+        Files.delete(deleted);
+        diff(new GitHistoryService.PathChange(DiffEntry.ChangeType.DELETE, deleted, null));
+
+        assertThat(studyService.applyCommitDiff("before", "after")).isEqualTo(1);
+
+        assertThat(studyService.getStudySnapshot().getVersion()).isGreaterThan(version);
+        assertThat(childNames(studyService.getStudyStructure())).containsExactly("B");
+        assertThat(graphService.getBacklinks(path("Study/B.md").toString())).isEmpty();
+        assertThat(noteIndexService.resolve("A")).isEmpty();
+        assertThat(searchService.search("deleted", 10).getResults()).isEmpty();
+        // 다른 노트의 링크 해석이 바뀔 수 있으므로 렌더링 캐시 비움
+        assertThat(cacheManager.getCache("markdownRenderCache").get("rendered")).isNull();
+    }
+
+    @Test
+    void modifyUpdatesLinksWithoutChangingTreeShape() throws Exception {
+        write("Study/A.md", "[[B]]");
+        write("Study/B.md", "# B");
+        write("Study/C.md", "# C");
+        studyService.getStudySnapshot();
+
+        write("Study/A.md", "[[C]]");
+        diff(new GitHistoryService.PathChange(DiffEntry.ChangeType.MODIFY, path("Study/A.md"), path("Study/A.md")));
+
+        assertThat(studyService.applyCommitDiff("before", "after")).isEqualTo(1);
+
+        assertThat(childNames(studyService.getStudyStructure())).containsExactly("A", "B", "C");
+        assertThat(graphService.getBacklinks(path("Study/B.md").toString())).isEmpty();
+        assertThat(graphService.getBacklinks(path("Study/C.md").toString()))
+                .extracting(BacklinkDto::getName).containsExactly("A");
+    }
+
+    @Test
+    void nonMarkdownChangesLeaveTreeUntouched() throws Exception {
+        write("Study/A.md", "# A");
+        long version = studyService.getStudySnapshot().getVersion();
+
+        write("Study/image.png", "png");
+        diff(new GitHistoryService.PathChange(DiffEntry.ChangeType.ADD, null, path("Study/image.png")));
+
+        assertThat(studyService.applyCommitDiff("before", "after")).isZero();
+        assertThat(studyService.getStudySnapshot().getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void unreadableOldCommitFallsBackToFullRebuild() throws Exception {
+        write("Study/A.md", "# A");
+        studyService.getStudySnapshot();
+
+        write("Study/B.md", "# B");
+        when(gitHistoryService.diffStudyTree(eq("missing"), eq("after"))).thenThrow(new IOException("missing"));
+
+        assertThat(studyService.applyCommitDiff("missing", "after")).isEqualTo(-1);
+        assertThat(childNames(studyService.getStudyStructure())).containsExactly("A", "B");
+    }
+
+    @Test
+    void missingPreviousHeadFallsBackToFullRebuild() throws Exception {
+        write("Study/A.md", "# A");
+        studyService.getStudySnapshot();
+
+        write("Study/B.md", "# B");
+
+        assertThat(studyService.applyCommitDiff(null, "after")).isEqualTo(-1);
+        assertThat(childNames(studyService.getStudyStructure())).containsExactly("A", "B");
+    }
+
+    private void diff(GitHistoryService.PathChange... changes) throws IOException {
+        when(gitHistoryService.diffStudyTree("before", "after")).thenReturn(List.of(changes));
+    }
+
+    private List<String> childNames(CategoryNodeDto node) {
+        return node.getChildren().stream().map(CategoryNodeDto::getName).toList();
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Path file = path(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private Path path(String relativePath) {
+        return repositoryRoot.resolve(relativePath);
+    }
+}
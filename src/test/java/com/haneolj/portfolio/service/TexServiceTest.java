@@ -0,0 +1,59 @@
+package com.haneolj.portfolio.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TexServiceTest {
+
+    private final TexService texService = new TexService();
+
+    @Test
+    void protectsAndRestoresInlineAndDisplayMath() {
+        String markdown = "식 $a_1 * b_2$ 와\n\n$$\n\\sum_{i=1}^n x_i\n$$\n";
+
+        TexService.TexContext context = texService.protectTexExpressions(markdown);
+
+        // 마크다운 처리에서 _ 나 * 가 강조로 해석되지 않도록 수식이 모두 토큰으로 바뀜
+        assertThat(context.getMarkdown()).doesNotContain("$", "a_1", "x_i");
+        assertThat(texService.restoreTexExpressions(context.getMarkdown(), context)).isEqualTo(markdown);
+    }
+
+    @Test
+    void restoresTokensInsideRenderedHtml() {
+        TexService.TexContext context = texService.protectTexExpressions("$x$ 그리고 $y$");
+
+        String html = "<p>" + context.getMarkdown() + "</p>\n";
+
+        assertThat(texService.restoreTexExpressions(html, context)).isEqualTo("<p>$x$ 그리고 $y$</p>\n");
+    }
+
+    @Test
+    void escapedAndEmptyDollarsAreLeftAlone() {
+        String markdown = "가격은 \\$5 이고 $ $ 는 비어 있음";
+
+        TexService.TexContext context = texService.protectTexExpressions(markdown);
+
+        assertThat(context.getMarkdown()).isEqualTo(markdown);
+    }
+
+    @Test
+    void literalTokenTextInNoteIsNotReplaced() {
+        String markdown = "본문의 TEX_INLINE_0_TOKEN 과 TEX_DISPLAY_0_TOKEN 그리고 수식 $x$";
+
+        TexService.TexContext context = texService.protectTexExpressions(markdown);
+
+        assertThat(texService.restoreTexExpressions(context.getMarkdown(), context)).isEqualTo(markdown);
+    }
+
+    @Test
+    void contextsAreIndependentBetweenRenders() {
+        TexService.TexContext first = texService.protectTexExpressions("$a$");
+        TexService.TexContext second = texService.protectTexExpressions("$b$");
+
+        // 두 렌더링의 토큰이 같아도 각자의 컨텍스트로 복원
+        assertThat(first.getMarkdown()).isEqualTo(second.getMarkdown());
+        assertThat(texService.restoreTexExpressions(first.getMarkdown(), first)).isEqualTo("$a$");
+        assertThat(texService.restoreTexExpressions(second.getMarkdown(), second)).isEqualTo("$b$");
+    }
+}
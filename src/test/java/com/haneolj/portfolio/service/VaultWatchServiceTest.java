@@ -0,0 +1,160 @@
+package com.haneolj.portfolio.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VaultWatchServiceTest {
+
+    private static final long DEBOUNCE_MILLIS = 300;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    Path repositoryRoot;
+
+    private Path studyDirectory;
+    private StudyService studyService;
+    private VaultWatchService vaultWatchService;
+
+    // applyChangedPaths 호출마다 받은 경로 묶음
+    private final BlockingQueue<Set<Path>> batches = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        studyDirectory = Files.createDirectories(repositoryRoot.resolve("Study"));
+
+        RepositoryStateService repositoryStateService = mock(RepositoryStateService.class);
+        when(repositoryStateService.getLocalPath()).thenReturn(repositoryRoot.toString());
+
+        studyService = mock(StudyService.class);
+        doAnswer(invocation -> {
+            Collection<Path> paths = invocation.getArgument(0);
+            batches.add(new HashSet<>(paths));
+            return null;
+        }).when(studyService).applyChangedPaths(any());
+
+        vaultWatchService = new VaultWatchService(repositoryStateService, studyService);
+        ReflectionTestUtils.setField(vaultWatchService, "enabled", true);
+        ReflectionTestUtils.setField(vaultWatchService, "debounceMillis", DEBOUNCE_MILLIS);
+        ReflectionTestUtils.setField(vaultWatchService, "studyPath", "Study");
+        ReflectionTestUtils.setField(vaultWatchService, "vaultSource", "worktree");
+    }
+
+    @AfterEach
+    void tearDown() {
+        vaultWatchService.shutdown();
+    }
+
+    @Test
+    void burstOfWritesIsAppliedOnce() throws Exception {
+        vaultWatchService.start();
+
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(studyDirectory.resolve("note" + i + ".md"), "v1");
+            Files.writeString(studyDirectory.resolve("note" + i + ".md"), "v2");
+        }
+
+        Set<Path> batch = batches.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(batch).containsExactlyInAnyOrder(
+                studyDirectory.resolve("note0.md"), studyDirectory.resolve("note1.md"),
+                studyDirectory.resolve("note2.md"), studyDirectory.resolve("note3.md"),
+                studyDirectory.resolve("note4.md"));
+        // 대기 시간이 지나도 같은 변경으로 다시 반영하지 않음
+        assertThat(batches.poll(DEBOUNCE_MILLIS * 3, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void filesInNewDirectoryArePickedUp() throws Exception {
+        vaultWatchService.start();
+
+        // 디렉토리를 만들자마자 쓴 파일 (감시 등록 전이어도 반영)
+        Path subdirectory = Files.createDirectories(studyDirectory.resolve("sub"));
+        Files.writeString(subdirectory.resolve("first.md"), "first");
+        assertThat(collectUntil(subdirectory.resolve("first.md"))).contains(subdirectory);
+
+        // 등록된 뒤의 변경은 새 디렉토리의 감시로 들어옴
+        Files.writeString(subdirectory.resolve("second.md"), "second");
+        assertThat(collectUntil(subdirectory.resolve("second.md"))).isNotEmpty();
+    }
+
+    @Test
+    void deletedDirectoryStopsBeingWatched() throws Exception {
+        Path subdirectory = Files.createDirectories(studyDirectory.resolve("sub"));
+        vaultWatchService.start();
+        assertThat(watchedDirectories()).hasSize(2);
+
+        Files.delete(subdirectory);
+        assertThat(collectUntil(subdirectory)).isNotEmpty();
+
+        // 삭제된 디렉토리의 감시 키는 다음 이벤트를 처리할 때 정리됨
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (watchedDirectories().size() > 1 && System.currentTimeMillis() < deadline) {
+            Files.writeString(studyDirectory.resolve("touch.md"), String.valueOf(System.nanoTime()));
+            batches.poll(DEBOUNCE_MILLIS * 2, TimeUnit.MILLISECONDS);
+        }
+        assertThat(watchedDirectories()).containsExactly(studyDirectory);
+    }
+
+    @Test
+    void lostEventsTriggerFullRebuild() throws Exception {
+        WatchKey key = mock(WatchKey.class);
+        WatchEvent<?> overflow = mock(WatchEvent.class);
+        doAnswer(invocation -> StandardWatchEventKinds.OVERFLOW).when(overflow).kind();
+        doAnswer(invocation -> List.of(overflow)).when(key).pollEvents();
+        when(key.reset()).thenReturn(true);
+
+        Set<Path> pending = new LinkedHashSet<>();
+        Boolean lost = ReflectionTestUtils.invokeMethod(vaultWatchService, "collectEvents", key, pending);
+        assertThat(lost).isTrue();
+
+        ReflectionTestUtils.invokeMethod(vaultWatchService, "flush", pending, true);
+
+        verify(studyService).rebuildStudyStructure();
+        verify(studyService, never()).applyChangedPaths(any());
+    }
+
+    // 지정한 경로가 반영될 때까지 받은 경로를 모아서 반환
+    private Set<Path> collectUntil(Path expected) throws InterruptedException {
+        Set<Path> collected = new HashSet<>();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (!collected.contains(expected) && System.currentTimeMillis() < deadline) {
+            Set<Path> batch = batches.poll(100, TimeUnit.MILLISECONDS);
+            if (batch != null) {
+                collected.addAll(batch);
+            }
+        }
+        assertThat(collected).contains(expected);
+        return collected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Path> watchedDirectories() {
+        return ((Map<WatchKey, Path>) ReflectionTestUtils.getField(vaultWatchService, "watchedDirectories"))
+                .values();
+    }
+}
@@ -0,0 +1,132 @@
+package com.haneolj.portfolio.service;
+
+import com.haneolj.portfolio.dto.WebhookJobDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebhookServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private RepositoryStateService repositoryStateService;
+    private StudyService studyService;
+    private WebhookService webhookService;
+
+    @BeforeEach
+    void setUp() {
+        repositoryStateService = mock(RepositoryStateService.class);
+        studyService = mock(StudyService.class);
+
+        webhookService = new WebhookService(repositoryStateService, studyService);
+        ReflectionTestUtils.setField(webhookService, "debounceMillis", 200L);
+        webhookService.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        webhookService.shutdown();
+    }
+
+    @Test
+    void eventsWithinWindowShareOneSync() throws Exception {
+        when(repositoryStateService.syncHeads("webhook"))
+                .thenReturn(new RepositoryStateService.HeadChange("a", "b"));
+        when(studyService.applyCommitDiff("a", "b")).thenReturn(3);
+
+        WebhookJobDto first = webhookService.enqueue();
+        WebhookJobDto second = webhookService.enqueue();
+        WebhookJobDto third = webhookService.enqueue();
+        assertThat(first.getState()).isEqualTo("QUEUED");
+
+        WebhookJobDto done = awaitFinished(third.getId());
+
+        assertThat(done.getState()).isEqualTo("DONE");
+        assertThat(done.getChangedFileCount()).isEqualTo(3);
+        assertThat(done.isFullRefresh()).isFalse();
+        assertThat(webhookService.getJob(first.getId()).getBatchId()).isEqualTo(done.getBatchId());
+        assertThat(webhookService.getJob(second.getId()).getBatchId()).isEqualTo(done.getBatchId());
+
+        verify(repositoryStateService, times(1)).syncHeads("webhook");
+        assertThat(webhookService.getQueueStatus().getBatchCount()).isEqualTo(1);
+        assertThat(webhookService.getQueueStatus().getCoalescedEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    void eventDuringSyncFormsNextBatch() throws Exception {
+        CountDownLatch syncStarted = new CountDownLatch(1);
+        CountDownLatch releaseSync = new CountDownLatch(1);
+        when(repositoryStateService.syncHeads("webhook")).thenAnswer(invocation -> {
+            syncStarted.countDown();
+            releaseSync.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return new RepositoryStateService.HeadChange("a", "a");
+        });
+
+        WebhookJobDto first = webhookService.enqueue();
+        assertThat(syncStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+
+        // 동기화가 진행 중일 때 들어온 이벤트는 그 동기화에 섞이지 않음
+        WebhookJobDto second = webhookService.enqueue();
+        assertThat(webhookService.getJob(second.getId()).getState()).isEqualTo("QUEUED");
+        releaseSync.countDown();
+
+        WebhookJobDto firstDone = awaitFinished(first.getId());
+        WebhookJobDto secondDone = awaitFinished(second.getId());
+
+        assertThat(secondDone.getBatchId()).isGreaterThan(firstDone.getBatchId());
+        verify(repositoryStateService, times(2)).syncHeads("webhook");
+        // 새 커밋이 없으면 구조를 건드리지 않음
+        verify(studyService, never()).applyCommitDiff(anyString(), anyString());
+    }
+
+    @Test
+    void fullRebuildIsReported() throws Exception {
+        when(repositoryStateService.syncHeads("webhook"))
+                .thenReturn(new RepositoryStateService.HeadChange(null, "b"));
+        when(studyService.applyCommitDiff(null, "b")).thenReturn(-1);
+
+        WebhookJobDto done = awaitFinished(webhookService.enqueue().getId());
+
+        assertThat(done.getState()).isEqualTo("DONE");
+        assertThat(done.isFullRefresh()).isTrue();
+        assertThat(done.getChangedFileCount()).isZero();
+    }
+
+    @Test
+    void failedSyncMarksEveryJobInBatch() throws Exception {
+        when(repositoryStateService.syncHeads("webhook")).thenThrow(new RuntimeException("pull 실패"));
+
+        WebhookJobDto first = webhookService.enqueue();
+        WebhookJobDto second = webhookService.enqueue();
+
+        assertThat(awaitFinished(second.getId()).getState()).isEqualTo("FAILED");
+        WebhookJobDto failed = webhookService.getJob(first.getId());
+        assertThat(failed.getState()).isEqualTo("FAILED");
+        assertThat(failed.getError()).isEqualTo("pull 실패");
+    }
+
+    // 작업이 끝날 때까지 대기 (동기화 스레드에서 처리)
+    private WebhookJobDto awaitFinished(long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            WebhookJobDto job = webhookService.getJob(jobId);
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("웹훅 작업 #" + jobId + " 이 제한 시간 안에 끝나지 않았습니다");
+    }
+}